@@ -1,6 +1,18 @@
 package java.lang;
 
 import java.lang.annotation.Native;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
 
 import static java.lang.Integer.formatUnsignedInt;
 import static java.lang.Integer.toUnsignedLong;
@@ -52,23 +64,156 @@ public class Integer extends Number implements Comparable<Integer> {
         if(radix == 10)
             return toString(i);
 
-        char buf[] = new char[33];
         boolean negative = (i < 0);
-        int charPos = 32;
+        // 负数的绝对值按无符号处理，MIN_VALUE取反后仍是0x80000000，正好是2^31
+        int mag = negative ? -i : i;
+        int size = radixLength(mag, radix) + (negative ? 1 : 0);
+        char buf[] = new char[size];
 
-        if(!negative)
-            i = -i;
+        formatRadix(mag, radix, buf, size);
+        if(negative) {
+            buf[0] = '-';
+        }
+
+        return new String(buf, true);
+    }
 
-        while (i <= -radix) {
-            buf[charPos--] = digits[-(i % radix)];
-            i = i / radix;
+    /**
+     * @Author：zhuangfei
+     * @Description：把val当作无符号数时，用radix进制表示需要的字符个数，0占一个字符
+     * @Date：09:12 2026/10/19
+     */
+    static int radixLength(int val, int radix) {
+        if((radix & (radix - 1)) == 0) {
+            int shift = Integer.numberOfTrailingZeros(radix);
+            int mag = Integer.SIZE - Integer.numberOfLeadingZeros(val);
+            return Math.max((mag + (shift - 1)) / shift, 1);
         }
-        buf[charPos] = digits[-i];
-        if(negative) {
-            buf[--charPos] = '-';
+        long n = toUnsignedLong(val);
+        int len = 1;
+        for(long p = radix; p <= n; p *= radix) {
+            len++;
+        }
+        return len;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把val当作无符号数，用radix进制从buf[end - 1]开始向前写，返回第一个字符的下标。
+     *              2的幂的基数直接移位取掩码；其他基数用RadixTables里预先算好的倒数做乘法和移位代替除法，
+     *              36进制和16进制每次查表写两个字符。调用方保证radix合法且buf足够大
+     * val ：当作无符号数的值
+     * radix ：基数
+     * buf ：目标数组
+     * end ：写入的结束位置(不包含)
+     * @Date：09:20 2026/10/19
+     */
+    static int formatRadix(int val, int radix, char[] buf, int end) {
+        if((radix & (radix - 1)) == 0) {
+            int len = radixLength(val, radix);
+            formatUnsignedInt(val, Integer.numberOfTrailingZeros(radix), buf, end - len, len);
+            return end - len;
+        }
+
+        int charPos = end;
+        if(val < 0) {
+            // 超过2^31的部分先用一次long除法去掉一位，之后的值都小于2^31，可以用倒数乘法
+            long n = toUnsignedLong(val);
+            long q = n / radix;
+            buf[--charPos] = digits[(int) (n - q * radix)];
+            val = (int) q;
+        }
+
+        if(radix == 36) {
+            while(val >= 36 * 36) {
+                int q = (int) ((val * RadixTables.MAGIC_1296) >>> RadixTables.SHIFT_1296);
+                int pair = RadixTables.PAIRS36[val - q * (36 * 36)];
+                buf[--charPos] = (char) pair;
+                buf[--charPos] = (char) (pair >>> 16);
+                val = q;
+            }
+            if(val >= 36) {
+                int pair = RadixTables.PAIRS36[val];
+                buf[--charPos] = (char) pair;
+                buf[--charPos] = (char) (pair >>> 16);
+            } else {
+                buf[--charPos] = digits[val];
+            }
+            return charPos;
+        }
+
+        long magic = RadixTables.MAGIC[radix];
+        int shift = RadixTables.SHIFT[radix];
+        while(val >= radix) {
+            int q = (int) ((val * magic) >>> shift);
+            buf[--charPos] = digits[val - q * radix];
+            val = q;
+        }
+        buf[--charPos] = digits[val];
+        return charPos;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：任意进制格式化和无符号解析用到的表，放在单独的类里，第一次用到时才初始化。
+     *              对于非2的幂的除数d，取l = ceil(log2(d))，m = floor(2^(31 + l) / d) + 1，
+     *              则对所有0 <= n < 2^31都有n / d == (n * m) >>> (31 + l)，且n * m不会超出long的范围
+     * @Date：09:26 2026/10/19
+     */
+    private static class RadixTables {
+
+        static final long[] MAGIC = new long[Character.MAX_RADIX + 1];
+
+        static final int[] SHIFT = new int[Character.MAX_RADIX + 1];
+
+        /**
+         * 无符号解析时乘以基数之前允许的最大值，即0xFFFFFFFF / radix(无符号除法)
+         */
+        static final int[] UNSIGNED_LIMIT = new int[Character.MAX_RADIX + 1];
+
+        /**
+         * 累加值等于UNSIGNED_LIMIT时，最后一位允许的最大数字，即0xFFFFFFFF % radix(无符号取余)
+         */
+        static final int[] UNSIGNED_LAST_DIGIT = new int[Character.MAX_RADIX + 1];
+
+        static final long MAGIC_1296 = magic(36 * 36);
+
+        static final int SHIFT_1296 = shift(36 * 36);
+
+        /**
+         * 十六进制的两位数字打包在一个int中，高16位是高位的字符，低16位是低位的字符
+         */
+        static final int[] PAIRS16 = new int[16 * 16];
+
+        /**
+         * 三十六进制的两位数字，打包方式和PAIRS16相同
+         */
+        static final int[] PAIRS36 = new int[36 * 36];
+
+        static {
+            for(int r = Character.MIN_RADIX; r <= Character.MAX_RADIX; r++) {
+                UNSIGNED_LIMIT[r] = Integer.divideUnsigned(-1, r);
+                UNSIGNED_LAST_DIGIT[r] = Integer.remainderUnsigned(-1, r);
+                if((r & (r - 1)) != 0) {
+                    MAGIC[r] = magic(r);
+                    SHIFT[r] = shift(r);
+                }
+            }
+            for(int i = 0; i < PAIRS16.length; i++) {
+                PAIRS16[i] = (digits[i >>> 4] << 16) | digits[i & 15];
+            }
+            for(int i = 0; i < PAIRS36.length; i++) {
+                PAIRS36[i] = (digits[i / 36] << 16) | digits[i % 36];
+            }
+        }
+
+        private static int shift(int d) {
+            return 31 + (Integer.SIZE - Integer.numberOfLeadingZeros(d - 1));
         }
 
-        return new String(buf, charPos, (33 - charPos));
+        private static long magic(int d) {
+            return (1L << shift(d)) / d + 1;
+        }
     }
 
     /**
@@ -90,58 +235,500 @@ public class Integer extends Number implements Comparable<Integer> {
     /**
      * @Author：zhuangfei
      * @Description：将整数放入数组中，字符被放置到缓冲区里，然后从指定索引处最不重要
-     *                  的数开始向后遍历
+     *                  的数开始向后遍历。
+     *                  在负数上计算，这样MIN_VALUE也不会溢出；每次除以10000得到4位，4位再用乘法
+     *                  拆成两个两位数，每个两位数查一次DigitPairs写入两个字符，最后不足4位的部分同样按两位处理
      * i ：整数
      * index ：指定的索引
      * buf ：字符数组
      * @Date：11:33 2017/11/29
      */
     static void getChars(int i, int index, char[] buf) {
-        int q, r;
+        int q, r, p;
         int charPos = index;
-        char sign = 0;
+        boolean negative = i < 0;
 
-        if (i < 0) {
-            sign = '-';
+        if (!negative) {
             i = -i;
         }
 
-        while (i >= 65536) {
-            q = i / 100;
-            r = i - ((q << 6) + (q << 5) + (q << 2));
+        // 每次生成4位
+        while (i <= -10000) {
+            q = i / 10000;
+            r = (q * 10000) - i;
             i = q;
-            buf[--charPos] = DigitOnes[r];
-            buf[--charPos] = DigitTens[r];
+            int hi = (r * 5243) >>> 19; // r / 100，r < 10000时结果准确
+            p = DigitPairs[r - hi * 100];
+            buf[--charPos] = (char) p;
+            buf[--charPos] = (char) (p >>> 16);
+            p = DigitPairs[hi];
+            buf[--charPos] = (char) p;
+            buf[--charPos] = (char) (p >>> 16);
         }
 
-        for(;;) {
-            q = (i * 52429) >>> (16 + 3);
-            r = i - ((q << 3) + (q << 1));
-            buf[--charPos] = digits[r];
+        // 剩下不超过4位
+        if (i <= -100) {
+            q = i / 100;
+            r = (q * 100) - i;
             i = q;
-            if (i == 0) break;
+            p = DigitPairs[r];
+            buf[--charPos] = (char) p;
+            buf[--charPos] = (char) (p >>> 16);
+        }
+
+        // 剩下不超过2位
+        if (i <= -10) {
+            p = DigitPairs[-i];
+            buf[--charPos] = (char) p;
+            buf[--charPos] = (char) (p >>> 16);
+        } else {
+            buf[--charPos] = (char) ('0' - i);
         }
-        if(sign != 0) {
-            buf[--charPos] = sign;
+
+        if (negative) {
+            buf[--charPos] = '-';
         }
     }
+
     /**
      * @Author：zhuangfei
-     * @Description：需要正数的参数
+     * @Description：需要正数的参数。
+     *              先用numberOfLeadingZeros得到二进制位数，乘以1233/4096(约等于log10(2))得到十进制位数的估计值t，
+     *              真实的位数只可能是t或t+1，再和10的t次方比较一次即可，不需要逐个查sizeTable
      * x ：正参
      * @Date：11:42 2017/11/29
      */
     static int stringSize(int x) {
-        for(int i = 0; ; i++) {
-            if(x <= sizeTable[i]) {
-                return i + 1;
-            }
-        }
+        int t = ((32 - numberOfLeadingZeros(x)) * 1233) >>> 12;
+        return (x >= PowersOfTen[t]) ? t + 1 : t;
     }
 
     static final int[] sizeTable = {9, 99, 999, 9999, 99999, 999999, 9999999,
                                     99999999, 999999999, Integer.MAX_VALUE};
 
+    /**
+     * @Author：zhuangfei
+     * @Description：stringSize用的10的t次方，第0项为0，这样0也会得到1位
+     * @Date：10:05 2026/10/19
+     */
+    static final int[] PowersOfTen = {0, 10, 100, 1000, 10000, 100000, 1000000,
+                                      10000000, 100000000, 1000000000};
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回指定整数的十进制字符串的长度(负数包含'-')，与toString(i).length()相同，
+     *              可以用来预先确定缓冲区的大小
+     * i ：整数
+     * @Date：11:20 2026/10/19
+     */
+    public static int decimalLength(int i) {
+        if (i < 0) {
+            return (i == Integer.MIN_VALUE) ? 11 : stringSize(-i) + 1;
+        }
+        return stringSize(i);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把整数的十进制表示写入字符数组，不创建char[]和String，返回写入的字符个数
+     * i ：整数
+     * dst ：目标数组
+     * off ：开始写入的位置
+     * PS ：如果从off开始放不下，会抛出 IndexOutOfBoundsException(下标越界异常)，此时dst不会被修改
+     * @Date：11:24 2026/10/19
+     */
+    public static int writeTo(int i, char[] dst, int off) {
+        int size = decimalLength(i);
+        if (off < 0 || off > dst.length - size) {
+            throw new IndexOutOfBoundsException("off " + off + ", size " + size + ", length " + dst.length);
+        }
+        getChars(i, off + size, dst);
+        return size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把整数的十进制表示按ASCII写入字节数组，不创建中间的String，返回写入的字节数
+     * i ：整数
+     * dst ：目标数组
+     * off ：开始写入的位置
+     * PS ：如果从off开始放不下，会抛出 IndexOutOfBoundsException(下标越界异常)，此时dst不会被修改
+     * @Date：11:27 2026/10/19
+     */
+    public static int writeAscii(int i, byte[] dst, int off) {
+        int size = decimalLength(i);
+        if (off < 0 || off > dst.length - size) {
+            throw new IndexOutOfBoundsException("off " + off + ", size " + size + ", length " + dst.length);
+        }
+        getBytes(i, off + size, dst);
+        return size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把整数的十进制表示按ASCII写入缓冲区的当前位置，写完后position向后移动，返回写入的字节数。
+     *              有底层数组时直接写数组，直接内存的缓冲区先写到临时数组中，再用一次put整体写入
+     * i ：整数
+     * dst ：目标缓冲区
+     * PS ：如果剩余空间放不下，会抛出 BufferOverflowException(缓冲区溢出异常)，此时dst不会被修改；
+     *     只读的缓冲区会抛出 ReadOnlyBufferException(只读缓冲区异常)
+     * @Date：11:30 2026/10/19
+     */
+    public static int writeAscii(int i, ByteBuffer dst) {
+        int size = decimalLength(i);
+        if (dst.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+        if (dst.hasArray()) {
+            int pos = dst.position();
+            getBytes(i, dst.arrayOffset() + pos + size, dst.array());
+            dst.position(pos + size);
+        } else {
+            byte[] buf = new byte[11];
+            getBytes(i, size, buf);
+            dst.put(buf, 0, size);
+        }
+        return size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和getChars(int, int, char[])相同，写入的是ASCII字节
+     * i ：整数
+     * index ：指定的索引，从这里向前写
+     * buf ：字节数组
+     * @Date：11:34 2026/10/19
+     */
+    static void getBytes(int i, int index, byte[] buf) {
+        int q, r, p;
+        int charPos = index;
+        boolean negative = i < 0;
+
+        if (!negative) {
+            i = -i;
+        }
+
+        while (i <= -10000) {
+            q = i / 10000;
+            r = (q * 10000) - i;
+            i = q;
+            int hi = (r * 5243) >>> 19;
+            p = DigitPairs[r - hi * 100];
+            buf[--charPos] = (byte) p;
+            buf[--charPos] = (byte) (p >>> 16);
+            p = DigitPairs[hi];
+            buf[--charPos] = (byte) p;
+            buf[--charPos] = (byte) (p >>> 16);
+        }
+
+        if (i <= -100) {
+            q = i / 100;
+            r = (q * 100) - i;
+            i = q;
+            p = DigitPairs[r];
+            buf[--charPos] = (byte) p;
+            buf[--charPos] = (byte) (p >>> 16);
+        }
+
+        if (i <= -10) {
+            p = DigitPairs[-i];
+            buf[--charPos] = (byte) p;
+            buf[--charPos] = (byte) (p >>> 16);
+        } else {
+            buf[--charPos] = (byte) ('0' - i);
+        }
+
+        if (negative) {
+            buf[--charPos] = '-';
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：formatIntsParallel中数组长度小于这个值时按顺序处理，并行的开销不划算
+     * @Date：17:20 2026/10/19
+     */
+    private static final int FORMAT_PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回src[off, off + len)按十进制、用一个字符分隔后的总长度，用于预先分配缓冲区
+     * src ：整数数组
+     * off ：开始位置
+     * len ：个数
+     * PS ：off和len不在数组范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     *     总长度超过int的最大值时会抛出 OutOfMemoryError
+     * @Date：17:22 2026/10/19
+     */
+    public static int formattedLength(int[] src, int off, int len) {
+        checkFormatRange(src, off, len);
+        if(len == 0) {
+            return 0;
+        }
+        long size = len - 1;
+        for(int k = off, end = off + len; k < end; k++) {
+            size += decimalLength(src[k]);
+        }
+        if(size > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Required length exceeds implementation limit");
+        }
+        return (int) size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[off, off + len)格式化为用delimiter分隔的字符串，比如{17, 4, -3}和','得到"17,4,-3"。
+     *              先算出准确的长度，只分配一次，然后用getChars的数字表直接写入，不再为每个数字创建String，
+     *              也不需要不断扩容的StringBuilder
+     * src ：整数数组
+     * off ：开始位置
+     * len ：个数
+     * delimiter ：分隔符
+     * PS ：off和len不在数组范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：17:25 2026/10/19
+     */
+    public static String formatInts(int[] src, int off, int len, char delimiter) {
+        char[] buf = new char[formattedLength(src, off, len)];
+        writeInts(src, off, off + len, delimiter, buf, 0);
+        return new String(buf, true);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[off, off + len)格式化后写入调用方提供的字符数组，返回写入的字符个数
+     * src ：整数数组
+     * off ：开始位置
+     * len ：个数
+     * delimiter ：分隔符
+     * dst ：目标数组
+     * dstOff ：开始写入的位置
+     * PS ：dst放不下时会抛出 IndexOutOfBoundsException(下标越界异常)，此时dst不会被修改
+     * @Date：17:28 2026/10/19
+     */
+    public static int formatInts(int[] src, int off, int len, char delimiter, char[] dst, int dstOff) {
+        int size = formattedLength(src, off, len);
+        if(dstOff < 0 || dstOff > dst.length - size) {
+            throw new IndexOutOfBoundsException("dstOff " + dstOff + ", size " + size + ", length " + dst.length);
+        }
+        writeInts(src, off, off + len, delimiter, dst, dstOff);
+        return size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[off, off + len)格式化后按ASCII写入调用方提供的字节数组，返回写入的字节数
+     * src ：整数数组
+     * off ：开始位置
+     * len ：个数
+     * delimiter ：分隔符，必须是ASCII字符
+     * dst ：目标数组
+     * dstOff ：开始写入的位置
+     * PS ：delimiter不是ASCII字符时会抛出 IllegalArgumentException(不合法的参数异常)
+     *     dst放不下时会抛出 IndexOutOfBoundsException(下标越界异常)，此时dst不会被修改
+     * @Date：17:31 2026/10/19
+     */
+    public static int formatInts(int[] src, int off, int len, char delimiter, byte[] dst, int dstOff) {
+        if(delimiter > 0x7F) {
+            throw new IllegalArgumentException("delimiter is not ASCII: " + (int) delimiter);
+        }
+        int size = formattedLength(src, off, len);
+        if(dstOff < 0 || dstOff > dst.length - size) {
+            throw new IndexOutOfBoundsException("dstOff " + dstOff + ", size " + size + ", length " + dst.length);
+        }
+        writeInts(src, off, off + len, (byte) delimiter, dst, dstOff);
+        return size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[off, off + len)格式化后按ASCII写入缓冲区的当前位置，写完后position向后移动，返回写入的字节数
+     * src ：整数数组
+     * off ：开始位置
+     * len ：个数
+     * delimiter ：分隔符，必须是ASCII字符
+     * dst ：目标缓冲区
+     * PS ：delimiter不是ASCII字符时会抛出 IllegalArgumentException(不合法的参数异常)
+     *     剩余空间放不下时会抛出 BufferOverflowException(缓冲区溢出异常)，此时dst不会被修改
+     * @Date：17:34 2026/10/19
+     */
+    public static int formatInts(int[] src, int off, int len, char delimiter, ByteBuffer dst) {
+        if(delimiter > 0x7F) {
+            throw new IllegalArgumentException("delimiter is not ASCII: " + (int) delimiter);
+        }
+        int size = formattedLength(src, off, len);
+        if(dst.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+        if(dst.hasArray()) {
+            int pos = dst.position();
+            writeInts(src, off, off + len, (byte) delimiter, dst.array(), dst.arrayOffset() + pos);
+            dst.position(pos + size);
+        } else {
+            // 直接内存的缓冲区分批写到临时数组中，每批用一次put整体写入。剩余不足12字节(分隔符加最长的数字)时先写出
+            byte[] buf = new byte[Math.min(size, 4096)];
+            int p = 0;
+            for(int k = off, end = off + len; k < end; k++) {
+                if(p > buf.length - 12) {
+                    dst.put(buf, 0, p);
+                    p = 0;
+                }
+                if(k != off) {
+                    buf[p++] = (byte) delimiter;
+                }
+                int v = src[k];
+                p += decimalLength(v);
+                getBytes(v, p, buf);
+            }
+            dst.put(buf, 0, p);
+        }
+        return size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：并行版本的formatInts(int[], int, int, char)，用于几百万个元素的大数组。
+     *              把数组分成若干段，先并行算出每段的长度，求前缀和得到每段在结果中的位置，
+     *              再并行地把各段写入同一个char[]中互不重叠的区域。数组较小或公共池只有一个线程时直接按顺序处理
+     * src ：整数数组
+     * off ：开始位置
+     * len ：个数
+     * delimiter ：分隔符
+     * PS ：off和len不在数组范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：17:38 2026/10/19
+     */
+    public static String formatIntsParallel(int[] src, int off, int len, char delimiter) {
+        checkFormatRange(src, off, len);
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if(len < FORMAT_PARALLEL_THRESHOLD || parallelism <= 1) {
+            return formatInts(src, off, len, delimiter);
+        }
+        int chunks = Math.min(len / (FORMAT_PARALLEL_THRESHOLD >>> 2), parallelism * 4);
+        int[] from = new int[chunks + 1];
+        for(int c = 0; c <= chunks; c++) {
+            from[c] = off + (int) ((long) len * c / chunks);
+        }
+        // 第一遍：每段的长度，包括段内的分隔符，除第一段外还包括段前的一个分隔符
+        long[] start = new long[chunks + 1];
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        pool.invoke(new FormatAction(src, from, start, null, delimiter, 0, chunks));
+        for(int c = 1; c <= chunks; c++) {
+            start[c] += start[c - 1];
+        }
+        long total = start[chunks];
+        if(total > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Required length exceeds implementation limit");
+        }
+        // 第二遍：各段写入自己的区域，除第一段外，每段前面先写一个分隔符
+        char[] buf = new char[(int) total];
+        pool.invoke(new FormatAction(src, from, start, buf, delimiter, 0, chunks));
+        return new String(buf, true);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：formatIntsParallel的任务，对[lo, hi)中的段不断二分后fork，每个叶子任务处理一段。
+     *              buf为null时把第c段的长度写到start[c + 1]，否则把第c段写到buf中从start[c]开始的区域
+     * @Date：17:39 2026/10/19
+     */
+    private static final class FormatAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+
+        private final int[] from;
+
+        private final long[] start;
+
+        private final char[] buf;
+
+        private final char delimiter;
+
+        private final int lo;
+
+        private final int hi;
+
+        FormatAction(int[] src, int[] from, long[] start, char[] buf, char delimiter, int lo, int hi) {
+            this.src = src;
+            this.from = from;
+            this.start = start;
+            this.buf = buf;
+            this.delimiter = delimiter;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if(hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new FormatAction(src, from, start, buf, delimiter, lo, mid),
+                        new FormatAction(src, from, start, buf, delimiter, mid, hi));
+                return;
+            }
+            int c = lo;
+            if(buf == null) {
+                long size = from[c + 1] - from[c] - ((c == 0) ? 1 : 0);
+                for(int k = from[c]; k < from[c + 1]; k++) {
+                    size += decimalLength(src[k]);
+                }
+                start[c + 1] = size;
+            } else {
+                int p = (int) start[c];
+                if(c > 0) {
+                    buf[p++] = delimiter;
+                }
+                writeInts(src, from[c], from[c + 1], delimiter, buf, p);
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：检查src[off, off + len)是否在数组范围内
+     * @Date：17:40 2026/10/19
+     */
+    private static void checkFormatRange(int[] src, int off, int len) {
+        if(off < 0 || len < 0 || off > src.length - len) {
+            throw new IndexOutOfBoundsException("off " + off + ", len " + len + ", length " + src.length);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[from, to)逐个写入buf，从pos开始，相邻两个数字之间写一个分隔符，返回写完后的位置。
+     *              不做边界检查，调用方保证buf足够大
+     * @Date：17:42 2026/10/19
+     */
+    static int writeInts(int[] src, int from, int to, char delimiter, char[] buf, int pos) {
+        for(int k = from; k < to; k++) {
+            if(k != from) {
+                buf[pos++] = delimiter;
+            }
+            int v = src[k];
+            pos += decimalLength(v);
+            getChars(v, pos, buf);
+        }
+        return pos;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和writeInts(int[], int, int, char, char[], int)相同，写入的是ASCII字节
+     * @Date：17:44 2026/10/19
+     */
+    static int writeInts(int[] src, int from, int to, byte delimiter, byte[] buf, int pos) {
+        for(int k = from; k < to; k++) {
+            if(k != from) {
+                buf[pos++] = delimiter;
+            }
+            int v = src[k];
+            pos += decimalLength(v);
+            getBytes(v, pos, buf);
+        }
+        return pos;
+    }
+
     final static char [] DigitTens = {
             '0', '0', '0', '0', '0', '0', '0', '0', '0', '0',
             '1', '1', '1', '1', '1', '1', '1', '1', '1', '1',
@@ -168,6 +755,20 @@ public class Integer extends Number implements Comparable<Integer> {
             '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
     } ;
 
+    /**
+     * @Author：zhuangfei
+     * @Description：0~99的两位数字打包在一个int中，高16位是十位的字符，低16位是个位的字符，
+     *              查一次表就能写出两个字符
+     * @Date：10:08 2026/10/19
+     */
+    final static int[] DigitPairs = new int[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DigitPairs[i] = (DigitTens[i] << 16) | DigitOnes[i];
+        }
+    }
+
     /**
      * @Author：zhuangfei
      * @Description：返回第一个参数的字符串表示，作为第二个参数
@@ -178,7 +779,15 @@ public class Integer extends Number implements Comparable<Integer> {
      * @Date：14:21 2017/11/30
      */
     public static String toUnsignedString(int i, int radix) {
-        return Long.toUnsignedString(toUnsignedLong(i), radix);
+        if(radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+            radix = 10;
+        }
+
+        // 包括10进制在内的所有基数都直接按无符号数格式化，不再借助Long
+        int size = radixLength(i, radix);
+        char buf[] = new char[size];
+        formatRadix(i, radix, buf, size);
+        return new String(buf, true);
     }
 
     /**
@@ -188,7 +797,7 @@ public class Integer extends Number implements Comparable<Integer> {
      */
     public static String toUnsignedString0(int val, int shift) {
         int mag = Integer.SIZE - Integer.numberOfLeadingZeros(val);
-        int chars = Math.max((mag + (shift - 1) / shift), 1);
+        int chars = Math.max((mag + (shift - 1)) / shift, 1);
         char[] buf = new char[chars];
 
         formatUnsignedInt(val, shift, buf, 0, chars);
@@ -260,6 +869,15 @@ public class Integer extends Number implements Comparable<Integer> {
         int charPos = len;
         int radix = 1 << shift;
         int mask = radix - 1;
+        if(shift == 4) {
+            // 十六进制每次取一个字节，查表写两个字符
+            while((val >>> 8) != 0 && charPos > 1) {
+                int pair = RadixTables.PAIRS16[val & 0xFF];
+                buf[offset + --charPos] = (char) pair;
+                buf[offset + --charPos] = (char) (pair >>> 16);
+                val >>>= 8;
+            }
+        }
         do {
             buf[offset + --charPos] = Integer.digits[val & mask];
             val >>>= shift;
@@ -270,98 +888,979 @@ public class Integer extends Number implements Comparable<Integer> {
 
     /**
      * @Author：zhuangfei
-     * @Description：返回参数的字符串表现形式，作为无符号的十进制值。参数转换为无符号
-     *              的十进制表示，并作为字符串返回。好比上面方法toUnsignedString(int,int)中第二
-     *              个参数的值超过区间后为10一样
-     *  i ：参数
-     * @Date：15:06 2017/11/30
-     */
-    public static String toUnsignedString(int i) {
-        return Long.toString(toUnsignedLong(i));
-    }
-    
-    /**
-     * @Author：zhuangfei
-     * @Description：该方法返回输入指定字符串的指定进制的返回，
-     *              例：paseInt("110",2) 即为输出2进制下110的结果
-     *              平时使用的paseInt("110")默认返回110在十进制下的结果
-     *              PS：s 的长度不能超过7位，否则也会抛出异常
-     *  s ：指定转化的参数
-     *  radix ：转换为多少进制
-     *  PS：会抛出 NumberFormatException 数字格式异常
-     * @Date：15:25 2017/11/30
+     * @Description：返回参数的字符串表现形式，作为无符号的十进制值。参数转换为无符号
+     *              的十进制表示，并作为字符串返回。好比上面方法toUnsignedString(int,int)中第二
+     *              个参数的值超过区间后为10一样
+     *  i ：参数
+     * @Date：15:06 2017/11/30
+     */
+    public static String toUnsignedString(int i) {
+        return Long.toString(toUnsignedLong(i));
+    }
+    
+    /**
+     * @Author：zhuangfei
+     * @Description：该方法返回输入指定字符串的指定进制的返回，
+     *              例：paseInt("110",2) 即为输出2进制下110的结果
+     *              平时使用的paseInt("110")默认返回110在十进制下的结果
+     *              PS：s 的长度不能超过7位，否则也会抛出异常
+     *  s ：指定转化的参数
+     *  radix ：转换为多少进制
+     *  PS：会抛出 NumberFormatException 数字格式异常
+     * @Date：15:25 2017/11/30
+     */
+    public static int parseInt(String s, int radix) throws NumberFormatException {
+        // 警告：此方法可能在初始化时再VM初始化时调用，必须注意不要使用价值的方法
+        if(s == null) {
+            throw new NumberFormatException("null"); // 输入值为空会抛出 数据转换指定值不能为空的异常
+        }
+        if(radix < Character.MIN_RADIX) {
+            // 如果解析的基数小于指定的最小基数(-2)，会抛出 基数小于指定基数的异常
+            throw new NumberFormatException("radix " + radix + "less than Character.MIN_RADIX");
+        }
+        if(radix > Character.MAX_RADIX) {
+            // 如果解析的基数大于指定的最大基数(36)，会抛出 基数大于指定基数的异常
+            throw new NumberFormatException("radix " + radix + "greater than Character.MAX_RADIX");
+        }
+
+        long r = parseRadix(s.getValue(), 0, s.length(), radix);
+        if(r == PARSE_ERROR) {
+            // 抛出，输入的数组有误异常
+            throw NumberFormatException.forInputString(s);
+        }
+        return (int) r;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：解析CharSequence中[beginIndex, endIndex)这一段，规则与parseInt(String, int)相同，
+     *              不需要先调用substring。String和StringBuilder直接访问内部的数组，StringBuffer加锁后访问，
+     *              有底层数组的CharBuffer访问它的数组，其他的CharSequence先把这一段复制出来
+     * s ：需要解析的字符序列
+     * beginIndex ：开始位置(包含)
+     * endIndex ：结束位置(不包含)
+     * radix ：基数
+     * PS ：beginIndex、endIndex不在s的范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     *     格式错误或超出int范围时会抛出 NumberFormatException 数字格式异常
+     * @Date：15:10 2026/10/19
+     */
+    public static int parseInt(CharSequence s, int beginIndex, int endIndex, int radix)
+            throws NumberFormatException {
+        long r = parseRegion(s, beginIndex, endIndex, radix, REGION_SIGNED);
+        if(r == PARSE_ERROR) {
+            throw NumberFormatException.forInputString(s.subSequence(beginIndex, endIndex).toString());
+        }
+        return (int) r;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：解析字符数组中[beginIndex, endIndex)这一段，规则与parseInt(String, int)相同
+     * s ：字符数组
+     * beginIndex ：开始位置(包含)
+     * endIndex ：结束位置(不包含)
+     * radix ：基数
+     * PS ：beginIndex、endIndex不在s的范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     *     格式错误或超出int范围时会抛出 NumberFormatException 数字格式异常
+     * @Date：15:12 2026/10/19
+     */
+    public static int parseInt(char[] s, int beginIndex, int endIndex, int radix)
+            throws NumberFormatException {
+        checkRegion(s, beginIndex, endIndex, radix);
+        long r = parseRadix(s, beginIndex, endIndex, radix);
+        if(r == PARSE_ERROR) {
+            throw NumberFormatException.forInputString(new String(s, beginIndex, endIndex - beginIndex));
+        }
+        return (int) r;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：按无符号整数解析CharSequence中[beginIndex, endIndex)这一段，规则与parseUnsignedInt(String, int)相同
+     * s ：需要解析的字符序列
+     * beginIndex ：开始位置(包含)
+     * endIndex ：结束位置(不包含)
+     * radix ：基数
+     * PS ：beginIndex、endIndex不在s的范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     *     格式错误或超出无符号int范围时会抛出 NumberFormatException 数字格式异常
+     * @Date：15:14 2026/10/19
+     */
+    public static int parseUnsignedInt(CharSequence s, int beginIndex, int endIndex, int radix)
+            throws NumberFormatException {
+        long r = parseRegion(s, beginIndex, endIndex, radix, REGION_UNSIGNED);
+        if(r < 0) {
+            throw unsignedError(s.subSequence(beginIndex, endIndex).toString(), r);
+        }
+        return (int) r;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：按无符号整数解析字符数组中[beginIndex, endIndex)这一段，规则与parseUnsignedInt(String, int)相同
+     * s ：字符数组
+     * beginIndex ：开始位置(包含)
+     * endIndex ：结束位置(不包含)
+     * radix ：基数
+     * PS ：beginIndex、endIndex不在s的范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     *     格式错误或超出无符号int范围时会抛出 NumberFormatException 数字格式异常
+     * @Date：15:16 2026/10/19
+     */
+    public static int parseUnsignedInt(char[] s, int beginIndex, int endIndex, int radix)
+            throws NumberFormatException {
+        checkRegion(s, beginIndex, endIndex, radix);
+        long r = parseUnsignedRadix(s, beginIndex, endIndex, radix);
+        if(r < 0) {
+            throw unsignedError(new String(s, beginIndex, endIndex - beginIndex), r);
+        }
+        return (int) r;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：不抛出异常的parseInt，适合大量输入可能不合法的场景(构造异常要填充栈和拼接信息，代价远大于解析)。
+     *              成功时返回解析出的int值(用long表示)，失败时返回PARSE_ERROR，失败时不分配任何对象。
+     *              可以用isParsed判断是否成功，成功后强转为int即可。s为null也按失败处理
+     * s ：需要解析的字符序列
+     * radix ：基数
+     * PS ：radix不在Character.MIN_RADIX ~ Character.MAX_RADIX之间时仍然会抛出 NumberFormatException 数字格式异常
+     * @Date：16:05 2026/10/19
+     */
+    public static long tryParse(CharSequence s, int radix) {
+        if(s == null) {
+            return PARSE_ERROR;
+        }
+        return parseRegion(s, 0, s.length(), radix, REGION_SIGNED);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：不抛出异常的parseInt(CharSequence, int, int, int)，返回值同tryParse(CharSequence, int)
+     * s ：需要解析的字符序列
+     * beginIndex ：开始位置(包含)
+     * endIndex ：结束位置(不包含)
+     * radix ：基数
+     * PS ：beginIndex、endIndex不在s的范围内时仍然会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：16:08 2026/10/19
+     */
+    public static long tryParse(CharSequence s, int beginIndex, int endIndex, int radix) {
+        if(s == null) {
+            return PARSE_ERROR;
+        }
+        return parseRegion(s, beginIndex, endIndex, radix, REGION_SIGNED);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：不抛出异常的parseUnsignedInt，成功时返回0 ~ 2^32 - 1之间的值，强转为int即为无符号int；
+     *              失败时返回PARSE_ERROR(格式错误)、PARSE_NEGATIVE(以'-'开头)或PARSE_OVERFLOW(超出范围)
+     * s ：需要解析的字符序列
+     * radix ：基数
+     * @Date：16:10 2026/10/19
+     */
+    public static long tryParseUnsigned(CharSequence s, int radix) {
+        if(s == null) {
+            return PARSE_ERROR;
+        }
+        return parseRegion(s, 0, s.length(), radix, REGION_UNSIGNED);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：判断tryParse或tryParseUnsigned的返回值是否表示成功，是-true，否-false
+     * result ：tryParse或tryParseUnsigned的返回值
+     * @Date：16:12 2026/10/19
+     */
+    public static boolean isParsed(long result) {
+        return result >= Integer.MIN_VALUE;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把用分隔符隔开的一串十进制整数(如"17,4,90210,-3")依次解析到out中，一次扫描完成，
+     *              不创建任何子字符串，也不抛出解析异常。
+     *              每个数字前后可以有空白(小于等于' '且不是分隔符的字符)，数字可以带一个'+'或'-'。
+     *              全是空白的输入得到0个数字；空的字段、非法字符、超出int范围都算错误，遇到第一个错误就停止。
+     *              返回值的低32位是写入out的数字个数(用parsedCount取)，高32位是第一个错误的位置加1，
+     *              没有错误时为0(用parseErrorIndex取，没有错误时返回-1)，所以完全成功时返回值就是个数
+     * src ：需要解析的字符序列
+     * delimiter ：分隔符
+     * out ：存放结果的数组
+     * outOff ：从out的这个位置开始存放
+     * PS ：out放不下时也按错误处理，错误位置是放不下的那个字段的开始位置，此时parsedCount等于out.length - outOff
+     *     outOff不在out的范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：16:40 2026/10/19
+     */
+    public static long parseInts(CharSequence src, char delimiter, int[] out, int outOff) {
+        if(outOff < 0 || outOff > out.length) {
+            throw new IndexOutOfBoundsException("outOff " + outOff + ", length " + out.length);
+        }
+        char[] a;
+        int offset = 0;
+        int len = src.length();
+        if(src instanceof String) {
+            a = ((String) src).getValue();
+        } else if(src instanceof StringBuilder) {
+            a = ((AbstractStringBuilder) src).getValue();
+        } else if(src instanceof CharBuffer && ((CharBuffer) src).hasArray()) {
+            CharBuffer cb = (CharBuffer) src;
+            a = cb.array();
+            offset = cb.arrayOffset() + cb.position();
+        } else {
+            // StringBuffer的toString会加锁复制
+            a = src.toString().getValue();
+        }
+
+        final int end = offset + len;
+        int i = offset;
+        int n = outOff;
+        while(i < end && a[i] <= ' ' && a[i] != delimiter) {
+            i++;
+        }
+        if(i == end) {
+            return 0;
+        }
+        i = offset;
+        for(;;) {
+            int fieldStart = i;
+            while(i < end && a[i] <= ' ' && a[i] != delimiter) {
+                i++;
+            }
+            boolean negative = false;
+            if(i < end && (a[i] == '-' || a[i] == '+')) {
+                negative = a[i++] == '-';
+            }
+            final long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+            int digitStart = i;
+            long value = 0;
+            while(i < end) {
+                int digit = a[i] - '0';
+                if(digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+                if(value > limit) {
+                    return parseIntsResult(n - outOff, i - offset);
+                }
+                i++;
+            }
+            if(i == digitStart) {
+                return parseIntsResult(n - outOff, i - offset);
+            }
+            while(i < end && a[i] <= ' ' && a[i] != delimiter) {
+                i++;
+            }
+            if(i < end && a[i] != delimiter) {
+                return parseIntsResult(n - outOff, i - offset);
+            }
+            if(n == out.length) {
+                return parseIntsResult(n - outOff, fieldStart - offset);
+            }
+            out[n++] = (int) (negative ? -value : value);
+            if(i == end) {
+                return n - outOff;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和parseInts(CharSequence, char, int[], int)相同，输入是ASCII字节
+     * src ：字节数组
+     * delimiter ：分隔符
+     * out ：存放结果的数组
+     * outOff ：从out的这个位置开始存放
+     * @Date：16:48 2026/10/19
+     */
+    public static long parseInts(byte[] src, char delimiter, int[] out, int outOff) {
+        if(outOff < 0 || outOff > out.length) {
+            throw new IndexOutOfBoundsException("outOff " + outOff + ", length " + out.length);
+        }
+        final byte[] a = src;
+        final int end = a.length;
+        int i = 0;
+        int n = outOff;
+        int c;
+        while(i < end && (c = a[i] & 0xFF) <= ' ' && c != delimiter) {
+            i++;
+        }
+        if(i == end) {
+            return 0;
+        }
+        i = 0;
+        for(;;) {
+            int fieldStart = i;
+            while(i < end && (c = a[i] & 0xFF) <= ' ' && c != delimiter) {
+                i++;
+            }
+            boolean negative = false;
+            if(i < end && (a[i] == '-' || a[i] == '+')) {
+                negative = a[i++] == '-';
+            }
+            final long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+            int digitStart = i;
+            long value = 0;
+            while(i < end) {
+                int digit = a[i] - '0';
+                if(digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+                if(value > limit) {
+                    return parseIntsResult(n - outOff, i);
+                }
+                i++;
+            }
+            if(i == digitStart) {
+                return parseIntsResult(n - outOff, i);
+            }
+            while(i < end && (c = a[i] & 0xFF) <= ' ' && c != delimiter) {
+                i++;
+            }
+            if(i < end && (a[i] & 0xFF) != delimiter) {
+                return parseIntsResult(n - outOff, i);
+            }
+            if(n == out.length) {
+                return parseIntsResult(n - outOff, fieldStart);
+            }
+            out[n++] = (int) (negative ? -value : value);
+            if(i == end) {
+                return n - outOff;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把个数和错误位置合成parseInts的返回值
+     * @Date：16:50 2026/10/19
+     */
+    private static long parseIntsResult(int count, int errorIndex) {
+        return ((long) (errorIndex + 1) << 32) | count;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：从parseInts的返回值中取出成功解析并写入的数字个数
+     * result ：parseInts的返回值
+     * @Date：16:52 2026/10/19
+     */
+    public static int parsedCount(long result) {
+        return (int) result;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：从parseInts的返回值中取出第一个错误的位置，没有错误时返回-1
+     * result ：parseInts的返回值
+     * @Date：16:53 2026/10/19
+     */
+    public static int parseErrorIndex(long result) {
+        return (int) (result >>> 32) - 1;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：解析无符号整数失败时生成与parseUnsignedInt(String, int)相同的异常
+     * s ：出错的字符串
+     * r ：parseUnsignedRadix的返回值
+     * @Date：15:18 2026/10/19
+     */
+    private static NumberFormatException unsignedError(String s, long r) {
+        if(r == PARSE_NEGATIVE) {
+            // 抛出，在无符号的字符串上非法引导'-'异常
+            return new NumberFormatException(String.format("Illegal leading minus sign"
+                    + "on unsigned string %s.", s));
+        }
+        if(r == PARSE_OVERFLOW) {
+            // 抛出，字符串的值超出整数范围异常
+            return new NumberFormatException(String.format("String value %s exceeds range of unsigned int.", s));
+        }
+        return NumberFormatException.forInputString(s);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：检查字符数组的区域和基数
+     * @Date：15:20 2026/10/19
+     */
+    private static void checkRegion(char[] s, int beginIndex, int endIndex, int radix) {
+        if(s == null) {
+            throw new NumberFormatException("null"); // 输入值为空会抛出 数据转换指定值不能为空的异常
+        }
+        if(beginIndex < 0 || beginIndex > endIndex || endIndex > s.length) {
+            throw new IndexOutOfBoundsException("begin " + beginIndex + ", end " + endIndex + ", length " + s.length);
+        }
+        checkRadix(radix);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：检查基数是否在Character.MIN_RADIX ~ Character.MAX_RADIX之间
+     * @Date：15:21 2026/10/19
+     */
+    private static void checkRadix(int radix) {
+        if(radix < Character.MIN_RADIX) {
+            // 如果解析的基数小于指定的最小基数(-2)，会抛出 基数小于指定基数的异常
+            throw new NumberFormatException("radix " + radix + "less than Character.MIN_RADIX");
+        }
+        if(radix > Character.MAX_RADIX) {
+            // 如果解析的基数大于指定的最大基数(36)，会抛出 基数大于指定基数的异常
+            throw new NumberFormatException("radix " + radix + "greater than Character.MAX_RADIX");
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：按CharSequence的实际类型取到字符数组后解析[beginIndex, endIndex)这一段，
+     *              返回parseRadix、parseUnsignedRadix或decodeRadix的结果
+     * mode ：REGION_SIGNED-按有符号解析，REGION_UNSIGNED-按无符号解析，REGION_DECODE-按decode的规则解析(忽略radix)
+     * @Date：15:24 2026/10/19
+     */
+    private static long parseRegion(CharSequence s, int beginIndex, int endIndex, int radix, int mode) {
+        if(s == null) {
+            throw new NumberFormatException("null"); // 输入值为空会抛出 数据转换指定值不能为空的异常
+        }
+        if(beginIndex < 0 || beginIndex > endIndex || endIndex > s.length()) {
+            throw new IndexOutOfBoundsException("begin " + beginIndex + ", end " + endIndex + ", length " + s.length());
+        }
+        checkRadix(radix);
+
+        char[] a;
+        int offset = 0;
+        if(s instanceof String) {
+            a = ((String) s).getValue();
+        } else if(s instanceof StringBuilder) {
+            a = ((AbstractStringBuilder) s).getValue();
+        } else if(s instanceof StringBuffer) {
+            synchronized(s) {
+                a = ((AbstractStringBuilder) s).getValue();
+                return parseChars(a, beginIndex, endIndex, radix, mode);
+            }
+        } else if(s instanceof CharBuffer && ((CharBuffer) s).hasArray()) {
+            CharBuffer cb = (CharBuffer) s;
+            a = cb.array();
+            offset = cb.arrayOffset() + cb.position();
+        } else {
+            // 其他的CharSequence取不到底层数组，用charAt逐个读取，不复制
+            return parseSequence(s, beginIndex, endIndex, radix, mode);
+        }
+        return parseChars(a, offset + beginIndex, offset + endIndex, radix, mode);
+    }
+
+    private static final int REGION_SIGNED = 0;
+
+    private static final int REGION_UNSIGNED = 1;
+
+    private static final int REGION_DECODE = 2;
+
+    private static long parseChars(char[] a, int i, int end, int radix, int mode) {
+        if(mode == REGION_DECODE) {
+            return decodeRadix(a, i, end);
+        }
+        return mode == REGION_UNSIGNED ? parseUnsignedRadix(a, i, end, radix) : parseRadix(a, i, end, radix);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和parseChars相同，用charAt读取取不到底层数组的CharSequence，成功和失败时都不分配对象。
+     *              三种模式的循环与字符数组的版本逐行对应，修改时要一起修改
+     * @Date：15:26 2026/10/19
+     */
+    private static long parseSequence(CharSequence s, int i, int end, int radix, int mode) {
+        if(mode == REGION_DECODE) {
+            boolean negative = false;
+            if(i < end) {
+                char c = s.charAt(i);
+                if(c == '-') {
+                    negative = true;
+                    i++;
+                } else if(c == '+') {
+                    i++;
+                }
+            }
+            radix = 10;
+            if(i < end) {
+                char c = s.charAt(i);
+                if(c == '#') {
+                    radix = 16;
+                    i++;
+                } else if(c == '0' && i + 1 < end) {
+                    c = s.charAt(i + 1);
+                    if(c == 'x' || c == 'X') {
+                        radix = 16;
+                        i += 2;
+                    } else {
+                        radix = 8;
+                        i++;
+                    }
+                }
+            }
+            if(i >= end || s.charAt(i) == '-' || s.charAt(i) == '+') {
+                return PARSE_ERROR;
+            }
+            return parseDigits(s, i, end, radix, negative);
+        }
+        if(i >= end) {
+            return PARSE_ERROR;
+        }
+        char firstChar = s.charAt(i);
+        if(mode == REGION_UNSIGNED) {
+            if(firstChar == '-') {
+                return PARSE_NEGATIVE;
+            }
+            if(firstChar == '+' && ++i == end) {
+                return PARSE_ERROR;
+            }
+            int limit = RadixTables.UNSIGNED_LIMIT[radix];
+            int lastDigit = RadixTables.UNSIGNED_LAST_DIGIT[radix];
+            int result = 0;
+            boolean overflow = false;
+            while(i < end) {
+                int digit = Character.digit(s.charAt(i++), radix);
+                if(digit < 0) {
+                    return PARSE_ERROR;
+                }
+                if(overflow) {
+                    continue;
+                }
+                int cmp = Integer.compareUnsigned(result, limit);
+                if(cmp > 0 || (cmp == 0 && digit > lastDigit)) {
+                    overflow = true;
+                    continue;
+                }
+                result = result * radix + digit;
+            }
+            return overflow ? PARSE_OVERFLOW : toUnsignedLong(result);
+        }
+        boolean negative = false;
+        if(firstChar < '0') {
+            if(firstChar == '-') {
+                negative = true;
+            } else if(firstChar != '+') {
+                return PARSE_ERROR;
+            }
+            if(++i == end) {
+                return PARSE_ERROR;
+            }
+        }
+        return parseDigits(s, i, end, radix, negative);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：parseSequence中有符号的数字部分，[i, end)不能为空，在负数上累加
+     * @Date：15:27 2026/10/19
+     */
+    private static long parseDigits(CharSequence s, int i, int end, int radix, boolean negative) {
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int multmin = limit / radix;
+        int result = 0;
+        while(i < end) {
+            int digit = Character.digit(s.charAt(i++), radix);
+            if(digit < 0 || result < multmin) {
+                return PARSE_ERROR;
+            }
+            result *= radix;
+            if(result < limit + digit) {
+                return PARSE_ERROR;
+            }
+            result -= digit;
+        }
+        return negative ? result : -(long) result;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：decode共用的循环，一次扫描解析字符数组[i, end)，成功时返回结果，失败时返回PARSE_ERROR，不抛出异常。
+     *              依次识别可选的符号、基数前缀("0x"、"0X"、"#"为十六进制，后面还有字符的"0"为八进制)，
+     *              然后直接在负数上累加，limit和multmin按符号和基数取，所以MIN_VALUE(如"-0x80000000")不需要第二次解析
+     * @Date：19:40 2026/10/19
+     */
+    static long decodeRadix(char[] a, int i, int end) {
+        if(i >= end) {
+            return PARSE_ERROR;
+        }
+        boolean negative = false;
+        char c = a[i];
+        if(c == '-') {
+            negative = true;
+            i++;
+        } else if(c == '+') {
+            i++;
+        }
+        int radix = 10;
+        if(i < end) {
+            c = a[i];
+            if(c == '#') {
+                radix = 16;
+                i++;
+            } else if(c == '0' && i + 1 < end) {
+                c = a[i + 1];
+                if(c == 'x' || c == 'X') {
+                    radix = 16;
+                    i += 2;
+                } else {
+                    radix = 8;
+                    i++;
+                }
+            }
+        }
+        if(i >= end || a[i] == '-' || a[i] == '+') {
+            return PARSE_ERROR;
+        }
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int multmin = limit / radix;
+        int result = 0;
+        while(i < end) {
+            int digit = Character.digit(a[i++], radix);
+            if(digit < 0 || result < multmin) {
+                return PARSE_ERROR;
+            }
+            result *= radix;
+            if(result < limit + digit) {
+                return PARSE_ERROR;
+            }
+            result -= digit;
+        }
+        return negative ? result : -(long) result;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：所有有符号解析共用的循环，解析字符数组[i, end)，成功时返回结果，失败时返回PARSE_ERROR，不抛出异常。
+     *              十进制先走parseDecimal的快速路径，失败时(比如非ASCII的数字字符)再用下面的通用循环，
+     *              保证与原来的parseInt结果完全一致。
+     *              通用循环在负数上累加，这样MIN_VALUE也不会溢出；multmin是乘以基数之前允许的最小值
+     * @Date：15:28 2026/10/19
+     */
+    static long parseRadix(char[] a, int i, int end, int radix) {
+        if(radix == 10) {
+            long r = parseDecimal(a, i, end);
+            if(r != PARSE_ERROR) {
+                return r;
+            }
+        }
+        if(i >= end) {
+            return PARSE_ERROR;
+        }
+
+        int result = 0;
+        boolean negative = false;
+        int limit = -Integer.MAX_VALUE;
+        int multmin;
+        int digit;
+
+        char firstChar = a[i];
+        if(firstChar < '0') {
+            if(firstChar == '-') {
+                negative = true;
+                limit = Integer.MIN_VALUE;
+            } else if(firstChar != '+') {
+                return PARSE_ERROR;
+            }
+            if(++i == end) {
+                return PARSE_ERROR;
+            }
+        }
+        multmin = limit / radix;
+        while(i < end) {
+            digit = Character.digit(a[i++], radix);
+            if(digit < 0 || result < multmin) {
+                return PARSE_ERROR;
+            }
+            result *= radix;
+            if(result < limit + digit) {
+                return PARSE_ERROR;
+            }
+            result -= digit;
+        }
+        return negative ? result : -(long) result;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：无符号解析共用的循环，解析字符数组[i, end)，成功时返回0 ~ 0xFFFFFFFF之间的结果，
+     *              失败时返回PARSE_ERROR(格式错误)、PARSE_NEGATIVE(以'-'开头)或PARSE_OVERFLOW(超出范围)，不抛出异常。
+     *              直接在int中累加，乘以基数之前和RadixTables中该基数的上限比较，不需要借助long
+     * @Date：15:32 2026/10/19
+     */
+    static long parseUnsignedRadix(char[] a, int i, int end, int radix) {
+        if(i >= end) {
+            return PARSE_ERROR;
+        }
+        char firstChar = a[i];
+        if(firstChar == '-') {
+            return PARSE_NEGATIVE;
+        }
+        if(firstChar == '+' && ++i == end) {
+            return PARSE_ERROR;
+        }
+        int limit = RadixTables.UNSIGNED_LIMIT[radix];
+        int lastDigit = RadixTables.UNSIGNED_LAST_DIGIT[radix];
+        int result = 0;
+        boolean overflow = false;
+        while(i < end) {
+            int digit = Character.digit(a[i++], radix);
+            if(digit < 0) {
+                return PARSE_ERROR;
+            }
+            if(overflow) {
+                // 继续检查后面的字符，格式错误优先于超出范围
+                continue;
+            }
+            int cmp = Integer.compareUnsigned(result, limit);
+            if(cmp > 0 || (cmp == 0 && digit > lastDigit)) {
+                overflow = true;
+                continue;
+            }
+            result = result * radix + digit;
+        }
+        return overflow ? PARSE_OVERFLOW : toUnsignedLong(result);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和parseUnsignedRadix(char[], int, int, int)相同，输入是ASCII字节，非ASCII的字节按格式错误处理
+     * @Date：10:35 2026/10/19
+     */
+    static long parseUnsignedRadix(byte[] a, int i, int end, int radix) {
+        if(i >= end) {
+            return PARSE_ERROR;
+        }
+        byte firstChar = a[i];
+        if(firstChar == '-') {
+            return PARSE_NEGATIVE;
+        }
+        if(firstChar == '+' && ++i == end) {
+            return PARSE_ERROR;
+        }
+        int limit = RadixTables.UNSIGNED_LIMIT[radix];
+        int lastDigit = RadixTables.UNSIGNED_LAST_DIGIT[radix];
+        int result = 0;
+        boolean overflow = false;
+        while(i < end) {
+            byte b = a[i++];
+            int digit = b < 0 ? -1 : Character.digit(b, radix);
+            if(digit < 0) {
+                return PARSE_ERROR;
+            }
+            if(overflow) {
+                continue;
+            }
+            int cmp = Integer.compareUnsigned(result, limit);
+            if(cmp > 0 || (cmp == 0 && digit > lastDigit)) {
+                overflow = true;
+                continue;
+            }
+            result = result * radix + digit;
+        }
+        return overflow ? PARSE_OVERFLOW : toUnsignedLong(result);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：默认返回指定对象的十进制结果
+     * s ：指定转换的参数
+     * PS：会抛出 NumberFormatException 数字格式异常
+     * @Date：16:10 2017/11/30
+     */
+    public static int parseInt(String s) throws NumberFormatException{
+        return parseInt(s, 10);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把字节数组中的一段ASCII字符解析为十进制整数，不需要先创建String。
+     *              规则与parseInt(String)相同：可以有一个'+'或'-'，后面至少一位数字
+     * ascii ：字节数组
+     * off ：开始位置
+     * len ：长度
+     * PS ：off和len不在数组范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     *     格式错误或超出int范围时会抛出 NumberFormatException 数字格式异常
+     * @Date：14:10 2026/10/19
+     */
+    public static int parseInt(byte[] ascii, int off, int len) throws NumberFormatException {
+        if(off < 0 || len < 0 || off > ascii.length - len) {
+            throw new IndexOutOfBoundsException("off " + off + ", len " + len + ", length " + ascii.length);
+        }
+        long r = parseDecimal(ascii, off, off + len);
+        if(r == PARSE_ERROR) {
+            // 只有出错时才创建字符串
+            throw NumberFormatException.forInputString(new String(ascii, off, len, StandardCharsets.ISO_8859_1));
+        }
+        return (int) r;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把字节数组中的一段ASCII字符按指定基数解析为无符号整数，不需要先创建String。
+     *              规则与parseUnsignedInt(String, int)相同
+     * ascii ：字节数组
+     * off ：开始位置
+     * len ：长度
+     * radix ：基数
+     * PS ：off和len不在数组范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     *     格式错误或超出无符号int范围时会抛出 NumberFormatException 数字格式异常
+     * @Date：10:38 2026/10/19
+     */
+    public static int parseUnsignedInt(byte[] ascii, int off, int len, int radix) throws NumberFormatException {
+        if(off < 0 || len < 0 || off > ascii.length - len) {
+            throw new IndexOutOfBoundsException("off " + off + ", len " + len + ", length " + ascii.length);
+        }
+        checkRadix(radix);
+        long r = parseUnsignedRadix(ascii, off, off + len, radix);
+        if(r < 0) {
+            throw unsignedError(new String(ascii, off, len, StandardCharsets.ISO_8859_1), r);
+        }
+        return (int) r;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：解析失败(格式错误，有符号解析时也包括超出int范围)时的返回值，正常的结果不会与它相同。
+     *              tryParse和tryParseUnsigned返回的也是它
+     * @Date：14:12 2026/10/19
+     */
+    public static final long PARSE_ERROR = Long.MIN_VALUE;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：无符号解析遇到以'-'开头的字符串时的返回值
+     * @Date：15:34 2026/10/19
+     */
+    public static final long PARSE_NEGATIVE = Long.MIN_VALUE + 1;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：无符号解析的结果超出无符号int范围时的返回值
+     * @Date：15:35 2026/10/19
+     */
+    public static final long PARSE_OVERFLOW = Long.MIN_VALUE + 2;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把字符数组[i, end)中的ASCII字符解析为十进制整数。
+     *              先处理符号，然后每次取8个字符用SWAR的方法一起校验和转换，不足8个的部分逐个处理。
+     *              结果累加在long中，每一步都不会溢出long，只需要和int的上限比较一次。
+     *              格式错误或超出int范围时返回PARSE_ERROR，不抛出异常
+     * @Date：14:15 2026/10/19
+     */
+    static long parseDecimal(char[] a, int i, int end) {
+        if(i >= end) {
+            return PARSE_ERROR;
+        }
+        boolean negative = false;
+        char firstChar = a[i];
+        if(firstChar < '0') {
+            if(firstChar == '-') {
+                negative = true;
+            } else if(firstChar != '+') {
+                return PARSE_ERROR;
+            }
+            if(++i == end) {
+                return PARSE_ERROR;
+            }
+        }
+        final long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long result = 0;
+        while(end - i >= 8) {
+            int c0 = a[i], c1 = a[i + 1], c2 = a[i + 2], c3 = a[i + 3],
+                c4 = a[i + 4], c5 = a[i + 5], c6 = a[i + 6], c7 = a[i + 7];
+            if(((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7) & 0xFF00) != 0) {
+                return PARSE_ERROR;
+            }
+            long chunk = eightDigits((c0 | (c1 << 8) | (c2 << 16) | (c3 << 24)) & 0xFFFFFFFFL
+                    | (long) (c4 | (c5 << 8) | (c6 << 16) | (c7 << 24)) << 32);
+            if(chunk < 0) {
+                return PARSE_ERROR;
+            }
+            result = result * 100000000L + chunk;
+            if(result > limit) {
+                return PARSE_ERROR;
+            }
+            i += 8;
+        }
+        while(i < end) {
+            int digit = a[i++] - '0';
+            if(digit < 0 || digit > 9) {
+                return PARSE_ERROR;
+            }
+            result = result * 10 + digit;
+            if(result > limit) {
+                return PARSE_ERROR;
+            }
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和parseDecimal(char[], int, int)相同，输入是ASCII字节
+     * @Date：14:20 2026/10/19
      */
-    public static int parseInt(String s, int radix) throws NumberFormatException {
-        // 警告：此方法可能在初始化时再VM初始化时调用，必须注意不要使用价值的方法
-        if(s == null) {
-            throw new NumberFormatException("null"); // 输入值为空会抛出 数据转换指定值不能为空的异常
+    static long parseDecimal(byte[] a, int i, int end) {
+        if(i >= end) {
+            return PARSE_ERROR;
         }
-        if(radix < Character.MIN_RADIX) {
-            // 如果解析的基数小于指定的最小基数(-2)，会抛出 基数小于指定基数的异常
-            throw new NumberFormatException("radix " + radix + "less than Character.MIN_RADIX");
+        boolean negative = false;
+        byte firstChar = a[i];
+        if(firstChar < '0') {
+            if(firstChar == '-') {
+                negative = true;
+            } else if(firstChar != '+') {
+                return PARSE_ERROR;
+            }
+            if(++i == end) {
+                return PARSE_ERROR;
+            }
         }
-        if(radix > Character.MAX_RADIX) {
-            // 如果解析的基数大于指定的最大基数(36)，会抛出 基数大于指定基数的异常
-            throw new NumberFormatException("radix " + radix + "greater than Character.MAX_RADIX");
+        final long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long result = 0;
+        while(end - i >= 8) {
+            long chunk = eightDigits(((a[i] & 0xFF) | ((a[i + 1] & 0xFF) << 8)
+                    | ((a[i + 2] & 0xFF) << 16) | ((a[i + 3] & 0xFF) << 24)) & 0xFFFFFFFFL
+                    | (long) ((a[i + 4] & 0xFF) | ((a[i + 5] & 0xFF) << 8)
+                    | ((a[i + 6] & 0xFF) << 16) | ((a[i + 7] & 0xFF) << 24)) << 32);
+            if(chunk < 0) {
+                return PARSE_ERROR;
+            }
+            result = result * 100000000L + chunk;
+            if(result > limit) {
+                return PARSE_ERROR;
+            }
+            i += 8;
         }
-
-        int result = 0;
-        boolean negative = false;
-        int i = 0, len = s.length();
-        int limit = -Integer.MAX_VALUE;
-        int multmin;
-        int digit;
-
-        if( len > 0) {
-            char firstChar = s.charAt(0);
-            if(firstChar < '0') {
-                if(firstChar == '-') {
-                    negative = true;
-                    limit = Integer.MIN_VALUE;
-                } else if(firstChar != '+') {
-                    // 抛出，输入的数组有误异常
-                    throw NumberFormatException.forInputString(s);
-                }
-                if(len == 1) {
-                    // 抛出，输入的数组有误异常
-                    throw NumberFormatException.forInputString(s);
-                }
-                i++;
+        while(i < end) {
+            int digit = a[i++] - '0';
+            if(digit < 0 || digit > 9) {
+                return PARSE_ERROR;
             }
-            multmin = limit / radix;
-            while(i < len) {
-                digit = Character.digit(s.charAt(i++), radix);
-                if(digit < 0) {
-                    // 抛出，输入的数组有误异常
-                    throw NumberFormatException.forInputString(s);
-                }
-                if(result < multmin) {
-                    // 抛出，输入的数组有误异常
-                    throw NumberFormatException.forInputString(s);
-                }
-                result *= radix;
-                if(result < limit + digit) {
-                    // 抛出，输入的数组有误异常
-                    throw NumberFormatException.forInputString(s);
-                }
-                result -= digit;
+            result = result * 10 + digit;
+            if(result > limit) {
+                return PARSE_ERROR;
             }
-        } else {
-            // 抛出，输入的数组有误异常
-            throw NumberFormatException.forInputString(s);
         }
-        return negative ? result : -result;
+        return negative ? -result : result;
     }
 
     /**
      * @Author：zhuangfei
-     * @Description：默认返回指定对象的十进制结果
-     * s ：指定转换的参数
-     * PS：会抛出 NumberFormatException 数字格式异常
-     * @Date：16:10 2017/11/30
+     * @Description：把按小端顺序装在一个long中的8个ASCII字符转换为8位十进制数，不是8个数字时返回-1。
+     *              校验：每个字节的高4位必须是3，并且加6之后高4位仍然是3('0'~'9'即0x30~0x39)；
+     *              转换：相邻两位合并成两位数，再合并成四位数，最后合并成八位数，一共三次乘法
+     * chunk ：8个字符，第一个字符在最低的字节
+     * @Date：14:25 2026/10/19
      */
-    public static int parseInt(String s) throws NumberFormatException{
-        return parseInt(s, 10);
+    static long eightDigits(long chunk) {
+        if(((chunk & 0xF0F0F0F0F0F0F0F0L)
+                | (((chunk + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4)) != 0x3333333333333333L) {
+            return -1;
+        }
+        chunk = ((chunk & 0x0F0F0F0F0F0F0F0FL) * 2561) >>> 8;
+        chunk = ((chunk & 0x00FF00FF00FF00FFL) * 6553601) >>> 16;
+        return ((chunk & 0x0000FFFF0000FFFFL) * 42949672960001L) >>> 32;
     }
 
     /**
@@ -377,31 +1876,13 @@ public class Integer extends Number implements Comparable<Integer> {
         if(s == null)
             throw new NumberFormatException("null"); // 抛出，输入数据为空异常
 
-        int len = s.length();
-        if(len > 0) {
-            char firstChar = s.charAt(0);
-            if(firstChar == '-') {
-                throw new NumberFormatException(String.format("Illegal leading minus sign"
-                        + "on unsigned string %s.", s)); // 抛出，在无符号的字符串上非法引导'-'异常
-            } else {
-                if(len <= 5 || // integer的最大值在支持的最大进制下占6位字符
-                        (radix == 10 && len <= 9))  // integer的最大值在十进制下占10位字符
-                {
-                   return parseInt(s, radix);
-                } else {
-                    long ell = Long.parseLong(s, radix);
-                    if((ell & 0xffff_ffff_0000_0000L) == 0) {
-                        return (int) ell;
-                    } else {
-                        throw new NumberFormatException(String.format("String value %s exceeds range of unsigned int.", s));
-                        // 抛出，字符串的值超出整数范围异常
-                    }
-                }
-            }
-
-        } else {
-            throw NumberFormatException.forInputString(s);
+        checkRadix(radix);
+        long r = parseUnsignedRadix(s.getValue(), 0, s.length(), radix);
+        if(r < 0) {
+            // 以'-'开头、超出范围和格式错误分别抛出对应的异常
+            throw unsignedError(s, r);
         }
+        return (int) r;
     }
 
     /**
@@ -413,7 +1894,7 @@ public class Integer extends Number implements Comparable<Integer> {
      * @Date：14:14 2017/12/7
      */
     public static int parseUnsignedInt(String s) throws NumberFormatException {
-        return parseInt(s, 10);
+        return parseUnsignedInt(s, 10);
     }
     
     /**
@@ -424,7 +1905,7 @@ public class Integer extends Number implements Comparable<Integer> {
      * @Date：14:17 2017/12/7
      */
     public static Integer valueOf(String s, int radix) throws NumberFormatException {
-        return Integer.valueOf(s, radix);
+        return Integer.valueOf(parseInt(s, radix));
     }
 
     /**
@@ -440,7 +1921,10 @@ public class Integer extends Number implements Comparable<Integer> {
 
     /**
      * @Author：zhuangfei
-     * @Description：缓存以支持自动装箱的对象标识语义
+     * @Description：缓存以支持自动装箱的对象标识语义。
+     *              第一级缓存是low ~ high，启动时全部创建好，high可以用java.lang.Integer.IntegerCache.high调大(不小于127)；
+     *              第二级是可选的热点区间hotLow ~ hotHigh，由java.lang.Integer.IntegerCache.hotLow和hotHigh两个属性配置，
+     *              每个值第一次用到时才创建。java.lang.Integer.IntegerCache.stats为true时统计命中和未命中的次数
      * @Date：14:32 2017/12/7
      */
     public static class IntegerCache {
@@ -448,6 +1932,20 @@ public class Integer extends Number implements Comparable<Integer> {
         static final int high;
         static final Integer cache[];
 
+        /**
+         * 热点区间的上下界，未配置时hotHigh < hotLow，区间为空
+         */
+        static final int hotLow;
+        static final int hotHigh;
+
+        static final boolean stats;
+
+        /**
+         * 命中和未命中的计数，只有开启统计时才创建，否则为null
+         */
+        private static final LongAdder hits;
+        private static final LongAdder misses;
+
         static {
             // 高值可由属性配置
             int h = 127;
@@ -455,8 +1953,9 @@ public class Integer extends Number implements Comparable<Integer> {
             if(integerCacheHighPropValue != null) {
                 try {
                     int i = parseInt(integerCacheHighPropValue);
-                    i = Math.min(i, 127);
-                    h = Math.min(i, Integer.MAX_VALUE - (low) -1);
+                    i = Math.max(i, 127);
+                    // 数组长度不能超过Integer.MAX_VALUE
+                    h = Math.min(i, Integer.MAX_VALUE - (-low) -1);
                 } catch(NumberFormatException nfe) {
 
                 }
@@ -469,8 +1968,158 @@ public class Integer extends Number implements Comparable<Integer> {
                 cache[k] = new Integer(j++);
 
             assert IntegerCache.high >= 127;
+
+            // 热点区间，配置错误时不启用
+            int hl = 0;
+            int hh = -1;
+            String hotLowPropValue = sun.misc.VM.getSavedProperty("java.lang.Integer.IntegerCache.hotLow");
+            String hotHighPropValue = sun.misc.VM.getSavedProperty("java.lang.Integer.IntegerCache.hotHigh");
+            if(hotLowPropValue != null && hotHighPropValue != null) {
+                try {
+                    int l = parseInt(hotLowPropValue);
+                    int u = parseInt(hotHighPropValue);
+                    if(l <= u && (long) u - l < Integer.MAX_VALUE - 8) {
+                        hl = l;
+                        hh = u;
+                    }
+                } catch(NumberFormatException nfe) {
+
+                }
+            }
+            hotLow = hl;
+            hotHigh = hh;
+
+            stats = Boolean.parseBoolean(sun.misc.VM.getSavedProperty("java.lang.Integer.IntegerCache.stats"));
+            hits = stats ? new LongAdder() : null;
+            misses = stats ? new LongAdder() : null;
         }
+
         private IntegerCache() {}
+
+        /**
+         * @Author：zhuangfei
+         * @Description：热点区间的数组，第一次查热点区间时才分配
+         * @Date：11:02 2026/10/19
+         */
+        private static class HotCache {
+            static final Integer[] cache = new Integer[hotHigh - hotLow + 1];
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：第一级缓存没有命中时调用，在热点区间内则取出或创建缓存的对象，否则创建新的对象。
+         *              多个线程同时填充同一个位置时可能各自创建一个对象，之后都会取到最后写入的那个，
+         *              Integer的value是final的，不会看到未初始化的对象
+         * i ：指定值
+         * @Date：11:05 2026/10/19
+         */
+        static Integer lookup(int i) {
+            if(i >= hotLow && i <= hotHigh) {
+                Integer[] c = HotCache.cache;
+                int k = i - hotLow;
+                Integer v = c[k];
+                if(v != null) {
+                    if(stats) {
+                        hits.increment();
+                    }
+                    return v;
+                }
+                v = new Integer(i);
+                c[k] = v;
+                if(stats) {
+                    misses.increment();
+                }
+                return v;
+            }
+            if(stats) {
+                misses.increment();
+            }
+            return new Integer(i);
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：记录一次第一级缓存的命中，只能在开启统计时调用
+         * @Date：11:08 2026/10/19
+         */
+        static void hit() {
+            hits.increment();
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：返回第一级缓存的下界
+         * @Date：11:10 2026/10/19
+         */
+        public static int getLow() {
+            return low;
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：返回第一级缓存的上界
+         * @Date：11:10 2026/10/19
+         */
+        public static int getHigh() {
+            return high;
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：返回热点区间的下界，getHotHigh() < getHotLow()表示没有启用热点区间
+         * @Date：11:11 2026/10/19
+         */
+        public static int getHotLow() {
+            return hotLow;
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：返回热点区间的上界
+         * @Date：11:11 2026/10/19
+         */
+        public static int getHotHigh() {
+            return hotHigh;
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：返回是否在统计命中次数
+         * @Date：11:12 2026/10/19
+         */
+        public static boolean isStatsEnabled() {
+            return stats;
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：返回valueOf(int)返回缓存对象的次数，没有开启统计时始终为0
+         * @Date：11:13 2026/10/19
+         */
+        public static long getHits() {
+            return stats ? hits.sum() : 0;
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：返回valueOf(int)创建新对象的次数(包括第一次填充热点区间)，没有开启统计时始终为0
+         * @Date：11:13 2026/10/19
+         */
+        public static long getMisses() {
+            return stats ? misses.sum() : 0;
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：把命中和未命中的次数清零
+         * @Date：11:14 2026/10/19
+         */
+        public static void resetStats() {
+            if(stats) {
+                hits.reset();
+                misses.reset();
+            }
+        }
     }
 
     /**
@@ -481,9 +2130,13 @@ public class Integer extends Number implements Comparable<Integer> {
      * @Date：14:38 2017/12/7
      */
     public static Integer valueOf(int i) {
-        if(i >= IntegerCache.low && i <= IntegerCache.high)
+        if(i >= IntegerCache.low && i <= IntegerCache.high) {
+            if(IntegerCache.stats)
+                IntegerCache.hit();
             return IntegerCache.cache[i + (-IntegerCache.low)];
-        return new Integer(i);
+        }
+        // 热点区间和统计放在单独的方法里，保持这里足够小可以被内联
+        return IntegerCache.lookup(i);
     }
 
     private final int value;
@@ -592,6 +2245,77 @@ public class Integer extends Number implements Comparable<Integer> {
         return value;
     }
 
+    /**
+     * @Author：zhuangfei
+     * @Description：返回充分混合过的哈希码，用的是MurmurHash3的fmix32。
+     *              hashCode(int)直接返回值本身，连续的id、步长是表长倍数的值在2的幂大小的开放寻址表中会挤在一起，
+     *              mixHash让输入的每一位都影响结果的每一位，再取低位做下标就分布得很均匀。
+     *              这是一个一一映射，不同的值不会产生相同的哈希码；0的哈希码仍然是0
+     * value ：指定值
+     * @Date：18:50 2026/10/19
+     */
+    public static int mixHash(int value) {
+        int h = value;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：带种子的混合哈希，相当于MurmurHash3_x86_32对这4个字节求哈希：
+     *              先用rotateLeft和两个乘法打散value，和种子合并后再做一次fmix32。
+     *              不同的种子得到互不相关的哈希函数，可以用来防止构造的键集中碰撞
+     * value ：指定值
+     * seed ：种子
+     * @Date：18:52 2026/10/19
+     */
+    public static int mixHash(int value, int seed) {
+        int k = value * 0xcc9e2d51;
+        k = rotateLeft(k, 15);
+        k *= 0x1b873593;
+        int h = seed ^ k;
+        h = rotateLeft(h, 13);
+        h = h * 5 + 0xe6546b64;
+        return mixHash(h ^ 4);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：对src[srcOff, srcOff + len)逐个求mixHash(int)，写到dst[dstOff, dstOff + len)。
+     *              src和dst是同一个数组时只能原地计算(srcOff == dstOff)，两个范围错开且重叠时结果不正确
+     * PS ：范围越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：18:54 2026/10/19
+     */
+    public static void mixHash(int[] src, int srcOff, int[] dst, int dstOff, int len) {
+        checkBulkRange(src, srcOff, dst, dstOff, len);
+        for(int i = 0; i < len; i++) {
+            dst[dstOff + i] = mixHash(src[srcOff + i]);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：对src[srcOff, srcOff + len)逐个求mixHash(int, int)，写到dst[dstOff, dstOff + len)，
+     *              对src和dst的要求与mixHash(int[], int, int[], int, int)相同
+     * PS ：范围越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：18:55 2026/10/19
+     */
+    public static void mixHash(int[] src, int srcOff, int[] dst, int dstOff, int len, int seed) {
+        checkBulkRange(src, srcOff, dst, dstOff, len);
+        for(int i = 0; i < len; i++) {
+            dst[dstOff + i] = mixHash(src[srcOff + i], seed);
+        }
+    }
+
+    private static void checkBulkRange(int[] src, int srcOff, int[] dst, int dstOff, int len) {
+        if(len < 0 || srcOff < 0 || srcOff > src.length - len || dstOff < 0 || dstOff > dst.length - len) {
+            throw new IndexOutOfBoundsException("srcOff " + srcOff + ", dstOff " + dstOff + ", len " + len);
+        }
+    }
+
     /**
      * @Author：zhuangfei
      * @Description：返回对象与指定对象比较的结果，相同：true，不同：false
@@ -647,15 +2371,242 @@ public class Integer extends Number implements Comparable<Integer> {
             
         }
         if(v != null) {
-            try {
-                return Integer.decode(v);
-            } catch (NullPointerException e) {
-                
+            // 格式不正确时返回默认值
+            long r = tryDecode(v);
+            if(isParsed(r)) {
+                return Integer.valueOf((int) r);
             }
         }
         return val;
     }
 
+    /**
+     * @Author：zhuangfei
+     * @Description：系统属性整数值的缓存。每个属性第一次用到时读取System.getProperty并按decode的规则解析一次，
+     *              之后直接返回缓存的结果，不再读取加锁的Properties，也不再解析。
+     *              handle返回的IntSupplier可以放在字段里，在循环中反复调用getAsInt。
+     *              getInteger不使用这里的缓存，仍然每次读取系统属性，只有显式通过handle或get读取的调用方才会看到缓存的值。
+     *              属性改变后需要调用refresh或invalidate，缓存不会自动感知System.setProperty
+     * @Date：20:00 2026/10/19
+     */
+    public static class PropertyCache {
+
+        /**
+         * 属性名到缓存槽的映射
+         */
+        static final ConcurrentHashMap<String, Slot> slots = new ConcurrentHashMap<>();
+
+        private static final LongAdder hits = new LongAdder();
+        private static final LongAdder misses = new LongAdder();
+
+        /**
+         * 槽中还没有读取属性时的值，解析的结果不会与它相同
+         */
+        private static final long UNLOADED = Long.MAX_VALUE;
+
+        private PropertyCache() {}
+
+        /**
+         * @Author：zhuangfei
+         * @Description：一个属性的缓存。state中的value是tryDecode的结果：属性不存在或格式错误时为PARSE_ERROR，还没有读取时为UNLOADED。
+         *              每次失效时version加1，读取属性的线程只有在version没有变化时才能写入结果，
+         *              否则说明读取期间缓存被作废过，读到的可能是旧值，需要重新读取
+         * @Date：20:02 2026/10/19
+         */
+        static final class Slot {
+            final String name;
+            final AtomicReference<Entry> state = new AtomicReference<>(new Entry(0, UNLOADED));
+
+            Slot(String name) {
+                this.name = name;
+            }
+
+            long value() {
+                // 与System.getProperty相同，每次读取都要检查权限，不能因为有缓存就绕过
+                SecurityManager sm = System.getSecurityManager();
+                if(sm != null) {
+                    sm.checkPropertyAccess(name);
+                }
+                long v = state.get().value;
+                if(v == UNLOADED) {
+                    return load();
+                }
+                hits.increment();
+                return v;
+            }
+
+            long load() {
+                for(;;) {
+                    Entry e = state.get();
+                    misses.increment();
+                    String v = null;
+                    try {
+                        v = System.getProperty(name);
+                    } catch (IllegalArgumentException | NullPointerException ex) {
+
+                    }
+                    long r = v == null ? PARSE_ERROR : tryDecode(v);
+                    if(state.compareAndSet(e, new Entry(e.version, r))) {
+                        return r;
+                    }
+                    Entry c = state.get();
+                    if(c.version == e.version) {
+                        // 同一个版本已经由其他线程写入了结果
+                        return c.value;
+                    }
+                }
+            }
+
+            void invalidate() {
+                Entry e;
+                do {
+                    e = state.get();
+                } while(!state.compareAndSet(e, new Entry(e.version + 1, UNLOADED)));
+            }
+        }
+
+        /**
+         * 缓存槽的状态，不可变，整体替换
+         */
+        static final class Entry {
+            final long version;
+            final long value;
+
+            Entry(long version, long value) {
+                this.version = version;
+                this.value = value;
+            }
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：属性nm的缓存句柄，每次getAsInt返回属性的整数值，属性不存在或格式错误时返回val。
+         *              同一个属性的所有句柄共用一份缓存
+         * nm ：系统属性
+         * val ：默认值
+         * PS ：nm为null时会抛出 NullPointerException(空指针异常)，nm为空字符串时会抛出 IllegalArgumentException(非法参数异常)，
+         *      没有读取该属性的权限时，每次getAsInt都会抛出 SecurityException(安全异常)
+         * @Date：20:05 2026/10/19
+         */
+        public static IntSupplier handle(String nm, int val) {
+            return new Handle(slot(nm), val);
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：handle返回的句柄
+         * @Date：20:06 2026/10/19
+         */
+        private static final class Handle implements IntSupplier {
+            private final Slot slot;
+            private final int val;
+
+            Handle(Slot slot, int val) {
+                this.slot = slot;
+                this.val = val;
+            }
+
+            @Override
+            public int getAsInt() {
+                long r = slot.value();
+                return isParsed(r) ? (int) r : val;
+            }
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：返回属性nm缓存的整数值，第一次调用时登记并读取，属性不存在或格式错误时返回val
+         * nm ：系统属性
+         * val ：默认值
+         * PS ：nm为null或空字符串时抛出的异常与handle相同，没有读取该属性的权限时会抛出 SecurityException(安全异常)
+         * @Date：20:07 2026/10/19
+         */
+        public static int get(String nm, int val) {
+            long r = slot(nm).value();
+            return isParsed(r) ? (int) r : val;
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：立即重新读取并解析属性nm，没有登记过时先登记
+         * nm ：系统属性
+         * @Date：20:08 2026/10/19
+         */
+        public static void refresh(String nm) {
+            slot(nm).load();
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：让属性nm的缓存失效，下次用到时重新读取。没有登记过时什么也不做
+         * nm ：系统属性
+         * @Date：20:09 2026/10/19
+         */
+        public static void invalidate(String nm) {
+            Slot slot = slots.get(nm);
+            if(slot != null) {
+                slot.invalidate();
+            }
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：让所有属性的缓存失效，例如整体重新加载配置之后
+         * @Date：20:10 2026/10/19
+         */
+        public static void invalidateAll() {
+            for(Slot slot : slots.values()) {
+                slot.invalidate();
+            }
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：返回直接使用缓存结果的次数
+         * @Date：20:11 2026/10/19
+         */
+        public static long getHits() {
+            return hits.sum();
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：返回读取系统属性并解析的次数
+         * @Date：20:11 2026/10/19
+         */
+        public static long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * @Author：zhuangfei
+         * @Description：把命中和未命中的次数清零
+         * @Date：20:12 2026/10/19
+         */
+        public static void resetStats() {
+            hits.reset();
+            misses.reset();
+        }
+
+        private static Slot slot(String nm) {
+            if(nm == null) {
+                throw new NullPointerException("key can't be null");
+            }
+            if(nm.isEmpty()) {
+                throw new IllegalArgumentException("key can't be empty");
+            }
+            Slot slot = slots.get(nm);
+            if(slot == null) {
+                Slot created = new Slot(nm);
+                slot = slots.putIfAbsent(nm, created);
+                if(slot == null) {
+                    slot = created;
+                }
+            }
+            return slot;
+        }
+    }
+
     /**
      * @Author：zhuangfei
      * @Description：将指定的字符串解码为Integer整数，按照十进制，十六进制和八进制。
@@ -667,45 +2618,87 @@ public class Integer extends Number implements Comparable<Integer> {
      * @Date：15:31 2017/12/7
      */
     public static Integer decode (String nm) throws NumberFormatException {
-        int radix = 10;
-        int index = 0;
-        boolean negative = false;
-        Integer result;
+        // 一次扫描识别符号和前缀并累加，失败时才构造异常，不再截取子串，也不会为MIN_VALUE解析第二次
+        long r = decodeRadix(nm.getValue(), 0, nm.length());
+        if(r == PARSE_ERROR) {
+            throw decodeError(nm, 0, nm.length());
+        }
+        return Integer.valueOf((int) r);
+    }
 
-        if(nm.length() == 0)
-            throw new NumberFormatException("Zero length string"); // 抛出 字符串长度为0异常
-        char firstChar = nm.charAt(0);
-        // 如果标志存在，处理标志
-        if(firstChar == '-') {
-            negative = true;
-            index++;
-        } else if(firstChar == '+')
-            index++;
-        // 如果存在基数和说明符，处理它们
-        if(nm.startsWith("0x", index) || nm.startsWith("0X", index))  {
-            index += 2;
-            radix = 16;
-        } else if (nm.startsWith("#", index)) {
-            index++;
-            radix = 16;
-        } else if (nm.startsWith("0", index) && nm.length() > 1 + index) {
-            index++;
-            radix = 8;
+    /**
+     * @Author：zhuangfei
+     * @Description：按decode的规则解析CharSequence中[beginIndex, endIndex)这一段，返回int，不需要先调用substring
+     * s ：需要解码的字符序列
+     * beginIndex ：开始位置(包含)
+     * endIndex ：结束位置(不包含)
+     * PS ：beginIndex、endIndex不在s的范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     *     格式错误或超出int范围时会抛出 NumberFormatException 数字格式异常
+     * @Date：19:45 2026/10/19
+     */
+    public static int decodeInt(CharSequence s, int beginIndex, int endIndex) throws NumberFormatException {
+        long r = parseRegion(s, beginIndex, endIndex, 10, REGION_DECODE);
+        if(r == PARSE_ERROR) {
+            throw decodeError(s, beginIndex, endIndex);
         }
+        return (int) r;
+    }
 
-        if(nm.startsWith("-", index) || nm.startsWith("+", index)) {
-            throw new NumberFormatException("Sign character in wrong position");
+    /**
+     * @Author：zhuangfei
+     * @Description：不抛出异常的decode，成功时返回解码出的int值(用long表示)，失败时返回PARSE_ERROR，
+     *              用isParsed判断是否成功。s为null也按失败处理
+     * s ：需要解码的字符序列
+     * @Date：19:47 2026/10/19
+     */
+    public static long tryDecode(CharSequence s) {
+        if(s == null) {
+            return PARSE_ERROR;
         }
+        return parseRegion(s, 0, s.length(), 10, REGION_DECODE);
+    }
 
-        try {
-            result = Integer.valueOf(nm.substring(index), radix);
-            result = negative ? Integer.valueOf(-result.intValue()) : result;
-        } catch (NumberFormatException e) {
+    /**
+     * @Author：zhuangfei
+     * @Description：不抛出异常的decodeInt(CharSequence, int, int)，返回值同tryDecode(CharSequence)
+     * s ：需要解码的字符序列
+     * beginIndex ：开始位置(包含)
+     * endIndex ：结束位置(不包含)
+     * PS ：beginIndex、endIndex不在s的范围内时仍然会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：19:48 2026/10/19
+     */
+    public static long tryDecode(CharSequence s, int beginIndex, int endIndex) {
+        if(s == null) {
+            return PARSE_ERROR;
+        }
+        return parseRegion(s, beginIndex, endIndex, 10, REGION_DECODE);
+    }
 
-            String constant = negative ? ("-" + nm.substring(index)) : nm.substring(index);
-            result = Integer.valueOf(constant, radix);
+    /**
+     * @Author：zhuangfei
+     * @Description：解码失败后构造异常，信息与原来的decode相同。只在失败时调用，多扫描一次不影响正常的解析
+     * @Date：19:50 2026/10/19
+     */
+    private static NumberFormatException decodeError(CharSequence s, int beginIndex, int endIndex) {
+        if(beginIndex == endIndex) {
+            return new NumberFormatException("Zero length string");
         }
-        return result;
+        int i = beginIndex;
+        char c = s.charAt(i);
+        if(c == '-' || c == '+') {
+            i++;
+        }
+        String sign = c == '-' ? "-" : "";
+        if(i + 1 < endIndex && s.charAt(i) == '0' && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X')) {
+            i += 2;
+        } else if(i < endIndex && (s.charAt(i) == '#' || (s.charAt(i) == '0' && i + 1 < endIndex))) {
+            i++;
+        }
+        if(i < endIndex && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            return new NumberFormatException("Sign character in wrong position");
+        }
+        // 原来的decode失败后会给负数加上"-"再解析一次，异常信息里带着负号
+        return NumberFormatException.forInputString(sign + s.subSequence(i, endIndex));
     }
 
     /**
@@ -752,7 +2745,8 @@ public class Integer extends Number implements Comparable<Integer> {
    
    /**
     * @Author：zhuangfei
-    * @Description：返回无符号的值，由第一个参数除以第二个参数，得到无符号的值
+    * @Description：返回无符号的值，由第一个参数除以第二个参数，得到无符号的值。
+    *              反复除以同一个数时可以用java.util.primitive.UnsignedIntDivisor，预先算好乘数，不再做除法
     * dividend ：值1
     * divisor ：值2
     * @Date：17:40 2017/12/11
@@ -764,7 +2758,8 @@ public class Integer extends Number implements Comparable<Integer> {
 
    /**
     * @Author：zhuangfei
-    * @Description：返回无符号的值，由第一个参数取余第二个参数，得到无符号的值
+    * @Description：返回无符号的值，由第一个参数取余第二个参数，得到无符号的值。
+    *              反复对同一个数取余时可以用java.util.primitive.UnsignedIntDivisor
     * dividend ：值1
     * divisor ：值2
     * @Date：17:44 2017/12/11
@@ -913,7 +2908,111 @@ public class Integer extends Number implements Comparable<Integer> {
                ((i <<  8) & 0xFF0000) |
                ((i << 24));
    }
-   
+
+   /**
+    * @Author：zhuangfei
+    * @Description：把src中的每个值反转字节顺序后写到dst的相同位置，src和dst是同一个数组时就是原地转换
+    * PS ：dst比src短时会抛出 IndexOutOfBoundsException(下标越界异常)
+    * @Date：19:10 2026/10/19
+    */
+   public static void reverseBytes(int[] src, int[] dst) {
+       reverseBytes(src, 0, dst, 0, src.length);
+   }
+
+   /**
+    * @Author：zhuangfei
+    * @Description：把src[srcOff, srcOff + len)逐个反转字节顺序，写到dst[dstOff, dstOff + len)。
+    *               循环体只有一次reverseBytes，JIT会把它编译成bswap指令，支持的平台上还会向量化。
+    *               循环从前往后写，src和dst是同一个数组时只能原地转换(srcOff == dstOff)，两个范围错开且重叠时结果不正确
+    * PS ：范围越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+    * @Date：19:12 2026/10/19
+    */
+   public static void reverseBytes(int[] src, int srcOff, int[] dst, int dstOff, int len) {
+       checkBulkRange(src, srcOff, dst, dstOff, len);
+       for(int i = 0; i < len; i++) {
+           dst[dstOff + i] = reverseBytes(src[srcOff + i]);
+       }
+   }
+
+   /**
+    * @Author：zhuangfei
+    * @Description：从src的当前位置按order字节序读取len个int到dst[off, off + len)，src的位置向后移动4 * len。
+    *               通过src的IntBuffer视图整体读取，字节序与平台不同时由JDK按整块交换，不逐个调用reverseBytes
+    * PS ：src剩余不足4 * len个字节时会抛出 BufferUnderflowException，此时位置不变
+    * @Date：19:14 2026/10/19
+    */
+   public static void getInts(ByteBuffer src, ByteOrder order, int[] dst, int off, int len) {
+       checkBulkRange(dst, off, dst, off, len);
+       if(src.remaining() >> 2 < len) {
+           throw new BufferUnderflowException();
+       }
+       src.duplicate().order(order).asIntBuffer().get(dst, off, len);
+       src.position(src.position() + (len << 2));
+   }
+
+   /**
+    * @Author：zhuangfei
+    * @Description：把src[off, off + len)按order字节序写到dst的当前位置，dst的位置向后移动4 * len
+    * PS ：dst剩余不足4 * len个字节时会抛出 BufferOverflowException，此时位置不变
+    * @Date：19:16 2026/10/19
+    */
+   public static void putInts(int[] src, int off, int len, ByteOrder order, ByteBuffer dst) {
+       checkBulkRange(src, off, src, off, len);
+       if(dst.remaining() >> 2 < len) {
+           throw new BufferOverflowException();
+       }
+       dst.duplicate().order(order).asIntBuffer().put(src, off, len);
+       dst.position(dst.position() + (len << 2));
+   }
+
+   /**
+    * @Author：zhuangfei
+    * @Description：把src[srcOff, srcOff + len)逐个反转二进制位的顺序，写到dst[dstOff, dstOff + len)，
+    *               对src和dst的要求与reverseBytes(int[], int, int[], int, int)相同
+    * PS ：范围越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+    * @Date：19:18 2026/10/19
+    */
+   public static void reverse(int[] src, int srcOff, int[] dst, int dstOff, int len) {
+       checkBulkRange(src, srcOff, dst, dstOff, len);
+       for(int i = 0; i < len; i++) {
+           dst[dstOff + i] = reverse(src[srcOff + i]);
+       }
+   }
+
+   /**
+    * @Author：zhuangfei
+    * @Description：把src[srcOff, srcOff + len)逐个循环左移distance位，写到dst[dstOff, dstOff + len)，
+    *               对src和dst的要求与reverseBytes(int[], int, int[], int, int)相同
+    * PS ：范围越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+    * @Date：19:19 2026/10/19
+    */
+   public static void rotateLeft(int[] src, int srcOff, int[] dst, int dstOff, int len, int distance) {
+       checkBulkRange(src, srcOff, dst, dstOff, len);
+       for(int i = 0; i < len; i++) {
+           dst[dstOff + i] = rotateLeft(src[srcOff + i], distance);
+       }
+   }
+
+   /**
+    * @Author：zhuangfei
+    * @Description：返回a[off, off + len)中所有值的二进制表示里一的总个数。
+    *               每次把两个int拼成一个long交给Long.bitCount，popcnt指令的次数减半
+    * PS ：范围越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+    * @Date：19:21 2026/10/19
+    */
+   public static long bitCount(int[] a, int off, int len) {
+       checkBulkRange(a, off, a, off, len);
+       long count = 0;
+       int i = off;
+       for(int end = off + (len & ~1); i < end; i += 2) {
+           count += Long.bitCount(((long) a[i] << 32) | (a[i + 1] & 0xFFFFFFFFL));
+       }
+       if((len & 1) != 0) {
+           count += bitCount(a[i]);
+       }
+       return count;
+   }
+
    /**
     * @Author：zhuangfei
     * @Description：返回指定的两个int值的相加结果
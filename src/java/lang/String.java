@@ -5,6 +5,7 @@ import sun.misc.ASCIICaseInsensitiveComparator;
 import java.io.ObjectStreamField;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -32,6 +33,32 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
      * @Date：16:42 2017/11/8
      */
     private int hash;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：缓存字符串内容的特征(是否全是ASCII、是否全是Latin-1、是否不含代理字符等)，
+     *              和hash一样在第一次用到时才计算，0表示还没有计算
+     * @Date：14:10 2026/10/19
+     */
+    private int flags;
+
+    /** flags已经计算过 **/
+    private static final int FLAG_COMPUTED = 1;
+
+    /** 所有字符都小于0x80 **/
+    private static final int FLAG_ASCII = 1 << 1;
+
+    /** 所有字符都小于等于0xFF **/
+    private static final int FLAG_LATIN1 = 1 << 2;
+
+    /** 不含代理字符，每个char就是一个代码点 **/
+    private static final int FLAG_NO_SURROGATES = 1 << 3;
+
+    /** 不含'A'~'Z' **/
+    private static final int FLAG_NO_ASCII_UPPER = 1 << 4;
+
+    /** 不含'a'~'z' **/
+    private static final int FLAG_NO_ASCII_LOWER = 1 << 5;
     
     /**
      * @Author：zhuangfei
@@ -68,6 +95,7 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
     public String(String original) {
         this.value = original.value;
         this.hash = original.hash;
+        this.flags = original.flags;
     }
     
     /**
@@ -359,6 +387,16 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
         this.value = value;
     }
 
+    /**
+     * @Author：zhuangfei
+     * @Description：直接返回内部的value数组，不做复制。和AbstractStringBuilder.getValue()一样，
+     *              只给java.lang包内的类只读使用(比如Integer解析数字时直接访问字符)，不能修改数组的内容
+     * @Date：14:05 2026/10/19
+     */
+    char[] getValue() {
+        return value;
+    }
+
     /**
      * @Author：zhuangfei
      * @Description：返回调用该方法的对象的长度
@@ -435,6 +473,10 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
             //throw new IndexOutOfBoundsException();  // 抛出数组下标越界异常  这是源码里抛出的异常
             throw new StringIndexOutOfBoundsException("begin:"+beginIndex+"-end:"+endIndex); // 这是我自己修改后的抛出异常，亲测可用
         }
+        if((flags() & FLAG_NO_SURROGATES) != 0) {
+            // 没有代理字符时代码点的个数就是字符的个数
+            return endIndex - beginIndex;
+        }
         return Character.codePointCountImpl(value, beginIndex, endIndex - beginIndex); //
     }
 
@@ -451,6 +493,14 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
         if(index < 0 || index >= value.length) {
             throw new IndexOutOfBoundsException(); // 抛出数组下标越界异常
         }
+        if((flags() & FLAG_NO_SURROGATES) != 0) {
+            // 没有代理字符时直接加上偏移量
+            int result = index + codePointOffset;
+            if(result < 0 || result > value.length) {
+                throw new IndexOutOfBoundsException(); // 抛出数组下标越界异常
+            }
+            return result;
+        }
         return Character.offsetByCodePointsImpl(value, 0, value.length, index, codePointOffset);
     }
 
@@ -547,6 +597,10 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
         if(charset == null) {
             throw new NullPointerException(); // 抛出空指针异常
         }
+        byte[] ba = encodeDirect(charset);
+        if(ba != null) {
+            return ba;
+        }
         return StringCoding.encode(charset, value, 0, value.length);
     }
 
@@ -557,9 +611,39 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
      * @Date：13:40 2017/11/10
      */
     public byte[] getBytes() {
+        byte[] ba = encodeDirect(Charset.defaultCharset());
+        if(ba != null) {
+            return ba;
+        }
         return StringCoding.encode(value, 0, value.length);
     }
 
+    /**
+     * @Author：zhuangfei
+     * @Description：全是ASCII的字符串在UTF-8、US-ASCII、ISO-8859-1下，全是Latin-1的字符串在ISO-8859-1下，
+     *              编码结果就是每个字符的低8位，直接复制即可，不需要经过编码器。其他情况返回null
+     * charset ：指定的字符集
+     * @Date：14:25 2026/10/19
+     */
+    private byte[] encodeDirect(Charset charset) {
+        final int f = flags();
+        if((f & FLAG_LATIN1) == 0) {
+            return null;
+        }
+        if(!StandardCharsets.ISO_8859_1.equals(charset)) {
+            if((f & FLAG_ASCII) == 0 ||
+                    !(StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset))) {
+                return null;
+            }
+        }
+        final char[] val = value;
+        byte[] ba = new byte[val.length];
+        for(int i = 0; i < val.length; i++) {
+            ba[i] = (byte) val[i];
+        }
+        return ba;
+    }
+
     /**
      * @Author：zhuangfei
      * @Description：使用源数据对指定数据进行比较，相同-true，不同-false
@@ -885,6 +969,39 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
         return h;
     }
 
+    /**
+     * @Author：zhuangfei
+     * @Description：返回字符串内容的特征，第一次调用时扫描一遍value并缓存到flags中。
+     *              和hashCode一样，多个线程同时计算得到的结果是相同的，所以不需要同步
+     * @Date：14:16 2026/10/19
+     */
+    private int flags() {
+        int f = flags;
+        if(f == 0) {
+            f = FLAG_COMPUTED | FLAG_ASCII | FLAG_LATIN1 | FLAG_NO_SURROGATES
+                    | FLAG_NO_ASCII_UPPER | FLAG_NO_ASCII_LOWER;
+            final char[] val = value;
+            for(int i = 0; i < val.length; i++) {
+                char c = val[i];
+                if(c >= 0x80) {
+                    f &= ~FLAG_ASCII;
+                    if(c > 0xFF) {
+                        f &= ~FLAG_LATIN1;
+                        if(c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                            f &= ~FLAG_NO_SURROGATES;
+                        }
+                    }
+                } else if(c >= 'A' && c <= 'Z') {
+                    f &= ~FLAG_NO_ASCII_UPPER;
+                } else if(c >= 'a' && c <= 'z') {
+                    f &= ~FLAG_NO_ASCII_LOWER;
+                }
+            }
+            flags = f;
+        }
+        return f;
+    }
+
     /**
      * @Author：zhuangfei
      * @Description：返回指定字符串里字符第一次出现的位置，如果该指定字符不存在，返回-1
@@ -931,7 +1048,7 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
      * @Date：18:33 2017/11/13
      */
     public int indexOfSuplementary(int ch, int fromIndex) {
-        if(Character.isValidCodePoint(ch)) {
+        if(Character.isValidCodePoint(ch) && (flags() & FLAG_NO_SURROGATES) == 0) {
             final char[] value = this.value;
             final char hi = Character.highSurrogate(ch);
             final char lo = Character.lowSurrogate(ch);
@@ -984,7 +1101,7 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
      * @Date：18:49 2017/11/13
      */
     public int lastIndexOfSupplementary(int ch, int lastIndex) {
-        if(Character.isValidCodePoint(ch)) {
+        if(Character.isValidCodePoint(ch) && (flags() & FLAG_NO_SURROGATES) == 0) {
             final char[] value = this.value;
             char hi = Character.highSurrogate(ch);
             char lo = Character.lowSurrogate(ch);
@@ -1079,6 +1196,149 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
         return -1;
     }
 
+    /**
+     * @Author：zhuangfei
+     * @Description：没有匹配时返回的空数组，长度为0的数组不可修改，可以共享
+     * @Date：17:05 2026/10/19
+     */
+    private static final int[] EMPTY_INDEXES = new int[0];
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回指定字符在字符串中所有出现的位置，从小到大排列，没有时返回空数组。
+     *              只扫描一遍value，结果数组按实际个数截好
+     * ch ：指定字符(代码点)
+     * @Date：17:08 2026/10/19
+     */
+    public int[] indexesOf(int ch) {
+        if(ch >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            // 补充字符按两个代理字符组成的字符串查找，代理对不会自身重叠
+            if(!Character.isValidCodePoint(ch) || (flags() & FLAG_NO_SURROGATES) != 0) {
+                return EMPTY_INDEXES;
+            }
+            return indexesOf(new String(Character.toChars(ch), true), false);
+        }
+        final char[] val = value;
+        int[] result = EMPTY_INDEXES;
+        int n = 0;
+        for(int i = 0; i < val.length; i++) {
+            if(val[i] == ch) {
+                if(n == result.length) {
+                    result = Arrays.copyOf(result, Math.max(16, n + (n >> 1)));
+                }
+                result[n++] = i;
+            }
+        }
+        return (n == result.length) ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回指定字符串在字符串中所有出现的位置，不重叠(找到一个之后从它的结尾继续找，和split、replace一致)
+     * str ：指定的字符串
+     * @Date：17:12 2026/10/19
+     */
+    public int[] indexesOf(String str) {
+        return indexesOf(str, false);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回指定字符串在字符串中所有出现的位置，从小到大排列，没有时返回空数组。
+     *              一次扫描完成，不需要在外面循环调用indexOf(str, fromIndex)。
+     *              空字符串在每个位置都出现，返回0~length()
+     * str ：指定的字符串
+     * overlapping ：true-允许重叠("aaa"中"aa"出现在0和1)，false-不重叠("aaa"中"aa"只出现在0)
+     * @Date：17:15 2026/10/19
+     */
+    public int[] indexesOf(String str, boolean overlapping) {
+        final char[] val = value;
+        final char[] target = str.value;
+        final int step = (overlapping || target.length == 0) ? 1 : target.length;
+        int[] result = EMPTY_INDEXES;
+        int n = 0;
+        int i = indexOf(val, 0, val.length, target, 0, target.length, 0);
+        while(i != -1) {
+            if(n == result.length) {
+                result = Arrays.copyOf(result, Math.max(16, n + (n >> 1)));
+            }
+            result[n++] = i;
+            if(i + step > val.length) {
+                break;
+            }
+            i = indexOf(val, 0, val.length, target, 0, target.length, i + step);
+        }
+        return (n == result.length) ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回指定字符在字符串中出现的次数，不分配任何对象
+     * ch ：指定字符(代码点)
+     * @Date：17:18 2026/10/19
+     */
+    public int countOccurrences(int ch) {
+        if(ch >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            if(!Character.isValidCodePoint(ch) || (flags() & FLAG_NO_SURROGATES) != 0) {
+                return 0;
+            }
+            // 增补字符在value中是一对代理项，直接比较这两个char
+            final char[] val = value;
+            final char hi = Character.highSurrogate(ch);
+            final char lo = Character.lowSurrogate(ch);
+            int n = 0;
+            for(int i = 0; i < val.length - 1; i++) {
+                if(val[i] == hi && val[i + 1] == lo) {
+                    n++;
+                    i++;
+                }
+            }
+            return n;
+        }
+        final char[] val = value;
+        int n = 0;
+        for(int i = 0; i < val.length; i++) {
+            if(val[i] == ch) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回指定字符串在字符串中出现的次数，不重叠
+     * str ：指定的字符串
+     * @Date：17:20 2026/10/19
+     */
+    public int countOccurrences(String str) {
+        return countOccurrences(str, false);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回指定字符串在字符串中出现的次数，规则同indexesOf(String, boolean)，不分配任何对象。
+     *              可以用来预先确定下游缓冲区的大小
+     * str ：指定的字符串
+     * overlapping ：true-允许重叠，false-不重叠
+     * @Date：17:22 2026/10/19
+     */
+    public int countOccurrences(String str, boolean overlapping) {
+        final char[] val = value;
+        final char[] target = str.value;
+        if(target.length == 0) {
+            return val.length + 1;
+        }
+        final int step = overlapping ? 1 : target.length;
+        int n = 0;
+        int i = indexOf(val, 0, val.length, target, 0, target.length, 0);
+        while(i != -1) {
+            n++;
+            i = indexOf(val, 0, val.length, target, 0, target.length, i + step);
+        }
+        return n;
+    }
+
     /**
      * @Author：zhuangfei
      * @Description：返回指定对象中指定字符最后出现的位置，如果没有返回-1
@@ -1330,52 +1590,129 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
     /**
      * @Author：zhuangfei
      * @Description：根据指定的正则匹配拆分指定的对象，返回的数组由子正则匹配，
-     *  如果表达式不匹配任何字符，则返回整个字符串
+     *  如果表达式不匹配任何字符，则返回整个字符串。
+     *  如果正则其实是一个字面量(不含元字符，或者元字符都被'\'转义)，不管是一个字符还是多个字符，
+     *  都不再编译Pattern，而是直接用indexOf查找分隔符，结果与正则的拆分结果完全一致
      *  regex ：指定匹配的表达式
      *  limit ：控制模式施加的数的计数
      *  PS ：如果出入的正则不规范的话，会抛出 PatternSyntaxException(正则表达式异常)
      * @Date：16:58 2017/11/14
      */
     public String[] split(String regex, int limit) {
+        char[] delimiter = literalDelimiter(regex);
+        if(delimiter != null) {
+            return splitLiteral(delimiter, limit);
+        }
+        return Pattern.compile(regex).split(this, limit);
+    }
 
-        char ch = 0;
-        if(((regex.value.length == 1 &&
-             ".$|()[{^?*+\\".indexOf(ch = regex.charAt(0)) == -1) ||
-                (regex.length() == 2 &&
-                 regex.charAt(0) == '\\' &&
-                        (((ch = regex.charAt(1))-'0')|('9'-ch)) < 0 &&
-                        ((ch-'a')|('z'-ch)) < 0 &&
-                        ((ch-'A')|('Z'-ch)) < 0)) &&
-                (ch < Character.MIN_HIGH_SURROGATE || ch > Character.MAX_LOW_SURROGATE)
-           ) {
-            int off = 0;
-            int next = 0;
-            boolean limited = limit > 0;
-            ArrayList<String> list = new ArrayList<>();
-            while((next = indexOf(ch, off)) != -1) {
-                if(!limited || list.size() < limit -1) {
-                    list.add(substring(off, next));
-                    off = next + 1;
-                } else {
-                    //
-                    list.add(substring(off, value.length));
+    /**
+     * @Author：zhuangfei
+     * @Description：判断正则是否只是一个字面量，是的话返回真正要查找的分隔符，否则返回null。
+     *              没有'\'时直接返回regex自身的value，不会产生新的数组；
+     *              '\'后面跟字母或数字(\d、\t、\1等)是正则结构，不算字面量；
+     *              代理字符一律交给Pattern处理
+     * regex ：指定的表达式
+     * @Date：10:12 2026/10/19
+     */
+    private static char[] literalDelimiter(String regex) {
+        final char[] val = regex.value;
+        final int len = val.length;
+        if(len == 0) {
+            return null;
+        }
+        int escapes = 0;
+        for(int i = 0; i < len; i++) {
+            char ch = val[i];
+            if(ch == '\\') {
+                if(++i == len) {
+                    return null;
                 }
-            }
-            // 如果没有匹配的字符，返回整个对象
-            if(off == 0)
-                return new String[]{this};
-
-            // 把匹配最后剩余的部分加上去
-            int resultSize = list.size();
-            if(limit == 0) {
-                while(resultSize > 0 && list.get(resultSize - 1).length() == 0) {
-                    resultSize--;
+                ch = val[i];
+                if((((ch-'0')|('9'-ch)) >= 0) ||
+                        (((ch-'a')|('z'-ch)) >= 0) ||
+                        (((ch-'A')|('Z'-ch)) >= 0)) {
+                    return null;
                 }
+                escapes++;
+            } else if(".$|()[{^?*+".indexOf(ch) != -1) {
+                return null;
+            }
+            if(ch >= Character.MIN_HIGH_SURROGATE && ch <= Character.MAX_LOW_SURROGATE) {
+                return null;
             }
-            String[] result = new String[resultSize];
-            return list.subList(0, resultSize).toArray(result);
         }
-        return Pattern.compile(regex).split(this, limit);
+        if(escapes == 0) {
+            return val;
+        }
+        // 去掉转义符
+        char[] literal = new char[len - escapes];
+        for(int i = 0, j = 0; i < len; i++) {
+            char ch = val[i];
+            literal[j++] = (ch == '\\') ? val[++i] : ch;
+        }
+        return literal;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：按字面量分隔符拆分，分两遍进行：第一遍只找分隔符，统计字段个数和最后一个非空字段的位置，
+     *              第二遍按准确的长度创建结果数组并截取字段，不再经过ArrayList
+     * delimiter ：分隔符
+     * limit ：同split
+     * @Date：10:20 2026/10/19
+     */
+    private String[] splitLiteral(char[] delimiter, int limit) {
+        final int len = value.length;
+        final int dlen = delimiter.length;
+        final int maxCuts = (limit > 0) ? limit - 1 : Integer.MAX_VALUE;
+
+        // 第一遍：统计
+        int cuts = 0;
+        int resultSize = 0;
+        int off = 0;
+        int next;
+        while(cuts < maxCuts && (next = indexOfDelimiter(delimiter, off)) != -1) {
+            cuts++;
+            if(limit != 0 || next > off) {
+                resultSize = cuts;
+            }
+            off = next + dlen;
+        }
+        // 如果没有匹配的字符，返回整个对象
+        if(cuts == 0) {
+            return new String[]{this};
+        }
+        // 最后剩余的部分
+        if(limit != 0 || len > off) {
+            resultSize = cuts + 1;
+        }
+
+        // 第二遍：截取
+        String[] result = new String[resultSize];
+        off = 0;
+        for(int i = 0; i < resultSize; i++) {
+            if(i == cuts) {
+                result[i] = substring(off, len);
+            } else {
+                next = indexOfDelimiter(delimiter, off);
+                result[i] = substring(off, next);
+                off = next + dlen;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：从指定位置查找分隔符，一个字符时走indexOf(int, int)
+     * @Date：10:24 2026/10/19
+     */
+    private int indexOfDelimiter(char[] delimiter, int fromIndex) {
+        if(delimiter.length == 1) {
+            return indexOf(delimiter[0], fromIndex);
+        }
+        return indexOf(value, 0, value.length, delimiter, 0, delimiter.length, fromIndex);
     }
 
     /**
@@ -1388,6 +1725,105 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
         return split(regex, 0);
     }
 
+    /**
+     * @Author：zhuangfei
+     * @Description：按指定的分隔符切分当前字符串，不创建任何子字符串，只把每个字段的起止位置
+     *              写入调用方提供的数组，详细规则见 tokenize(char[], int, int, char, int, int[], int[])
+     * delimiter ：分隔符
+     * limit ：最多切分出的字段数，小于等于0时不限制
+     * starts ：存放每个字段的开始位置(包含)
+     * ends ：存放每个字段的结束位置(不包含)
+     * @Date：11:02 2026/10/19
+     */
+    public int tokenize(char delimiter, int limit, int[] starts, int[] ends) {
+        return tokenize(value, 0, value.length, delimiter, limit, starts, ends);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：按指定的分隔符切分字符数组的一段区域(一条记录)，一次扫描完成，扫描过程中不分配任何对象。
+     *              每个字段的起止位置是src中的绝对下标，写入starts和ends，返回字段的个数。
+     *              支持RFC 4180的引号规则：以'"'开头的字段一直到配对的'"'为止，里面可以包含分隔符和换行，
+     *              两个连续的'"'表示一个'"'。引号字段记录的是引号里面的区域，转义的'""'原样保留在区域中，
+     *              需要时由调用方还原。
+     *              和split的limit一样，limit大于0时最多返回limit个字段，最后一个字段是剩下的全部内容(不再处理引号)；
+     *              不同的是末尾的空字段不会被去掉，空区域返回一个空字段
+     * src ：源数组
+     * offset ：记录的开始位置
+     * count ：记录的长度
+     * delimiter ：分隔符，不能是'"'
+     * limit ：最多切分出的字段数，小于等于0时不限制
+     * starts ：存放每个字段的开始位置(包含)
+     * ends ：存放每个字段的结束位置(不包含)
+     * PS ：如果offset和count所得到的值不在源数组的下标内，会抛出 StringIndexOutOfBoundsException(字符串下标越界异常)
+     *     如果引号没有闭合，或者闭合的引号后面不是分隔符，会抛出 IllegalArgumentException(不合法的参数异常)
+     *     如果starts或ends放不下所有的字段，会抛出 ArrayIndexOutOfBoundsException(数组下标越界异常)
+     * @Date：11:05 2026/10/19
+     */
+    public static int tokenize(char[] src, int offset, int count, char delimiter, int limit,
+                               int[] starts, int[] ends) {
+        if(offset < 0) {
+            throw new StringIndexOutOfBoundsException(offset); // 抛出索引越界异常
+        }
+        if(count < 0) {
+            throw new StringIndexOutOfBoundsException(count); // 抛出索引越界异常
+        }
+        if(offset > src.length - count) {
+            throw new StringIndexOutOfBoundsException(offset + count); // 抛出索引越界异常
+        }
+        if(delimiter == '"') {
+            throw new IllegalArgumentException("delimiter"); // 抛出不合法参数异常
+        }
+
+        final int end = offset + count;
+        final int lastField = (limit > 0) ? limit - 1 : Integer.MAX_VALUE;
+        int n = 0;
+        int i = offset;
+        for(;;) {
+            if(n == lastField) {
+                // 已经到了limit，剩下的内容全部作为最后一个字段
+                starts[n] = i;
+                ends[n] = end;
+                return n + 1;
+            }
+            int j;
+            if(i < end && src[i] == '"') {
+                // 引号字段，跳过成对的'""'找到闭合的引号
+                j = i + 1;
+                for(;;) {
+                    if(j == end) {
+                        throw new IllegalArgumentException("Unclosed quote at index " + i);
+                    }
+                    if(src[j] == '"') {
+                        if(j + 1 < end && src[j + 1] == '"') {
+                            j += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    j++;
+                }
+                starts[n] = i + 1;
+                ends[n] = j;
+                if(++j < end && src[j] != delimiter) {
+                    throw new IllegalArgumentException("Unexpected character after closing quote at index " + j);
+                }
+            } else {
+                j = i;
+                while(j < end && src[j] != delimiter) {
+                    j++;
+                }
+                starts[n] = i;
+                ends[n] = j;
+            }
+            n++;
+            if(j == end) {
+                return n;
+            }
+            i = j + 1;
+        }
+    }
+
     /**
      * @Author：zhuangfei
      * @Description：通过指定的字符把传入的字符全部链接起来，第一次时会新建一个
@@ -1437,6 +1873,18 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
             throw new NullPointerException();  // 抛出空指针异常
         }
 
+        final int f = flags();
+        if((f & FLAG_ASCII) != 0) {
+            // 全是ASCII并且没有大写字母，不管什么locale都不需要转换
+            if((f & FLAG_NO_ASCII_UPPER) != 0) {
+                return this;
+            }
+            String lang = locale.getLanguage();
+            if(!(lang == "tr" || lang == "az" || lang == "lt")) {
+                return toAsciiCase(false);
+            }
+        }
+
         int firstUpper;
         final int len = value.length;
 
@@ -1513,6 +1961,28 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
         return new String(result, 0, len + resultOffset);
     }
 
+    /**
+     * @Author：zhuangfei
+     * @Description：全是ASCII的字符串在与locale无关时的大小写转换，只需要翻转'a'~'z'或'A'~'Z'的0x20位。
+     *              结果的flags是已知的，直接设置好
+     * upper ：true-转换为大写，false-转换为小写
+     * @Date：14:32 2026/10/19
+     */
+    private String toAsciiCase(boolean upper) {
+        final char[] val = value;
+        final char lo = upper ? 'a' : 'A';
+        final char hi = upper ? 'z' : 'Z';
+        char[] buf = new char[val.length];
+        for(int i = 0; i < val.length; i++) {
+            char c = val[i];
+            buf[i] = (c >= lo && c <= hi) ? (char) (c ^ 0x20) : c;
+        }
+        String result = new String(buf, true);
+        result.flags = FLAG_COMPUTED | FLAG_ASCII | FLAG_LATIN1 | FLAG_NO_SURROGATES
+                | (upper ? FLAG_NO_ASCII_LOWER : FLAG_NO_ASCII_UPPER);
+        return result;
+    }
+
     /**
      * @Author：zhuangfei
      * @Description：不指定转换规则时，以默认规则把所有字符转换为小写
@@ -1533,6 +2003,18 @@ public final class String implements java.io.Serializable,Comparable<String>,Cha
             throw new NullPointerException(); // 抛出空指针异常
         }
 
+        final int f = flags();
+        if((f & FLAG_ASCII) != 0) {
+            // 全是ASCII并且没有小写字母，不管什么locale都不需要转换
+            if((f & FLAG_NO_ASCII_LOWER) != 0) {
+                return this;
+            }
+            String lang = locale.getLanguage();
+            if(!(lang == "tr" || lang == "az" || lang == "lt")) {
+                return toAsciiCase(true);
+            }
+        }
+
         int firstLower;
         final int len = value.length;
         // 现在检查是否有需要更改的字符
@@ -0,0 +1,526 @@
+package java.lang;
+
+import java.util.Arrays;
+
+/**
+ * @Author：zhuangfei
+ * @Description：一个不可变字符串的全文索引，由后缀数组(SA)和最长公共前缀数组(LCP)组成，全部存放在int[]中。
+ *              后缀数组用SA-IS算法线性时间构造，LCP用Kasai算法线性时间构造。
+ *              建好之后，对同一个字符串反复做indexOf、lastIndexOf、contains和计数时，每次查询只需要
+ *              在后缀数组上二分，时间为O(m log n)(m为查询串长度)，不再需要每次扫描整个字符串。
+ *              适用于大词典、大文档这样加载一次、查询很多次的场景。
+ *              内存：源字符串的副本2字节/字符，SA和LCP各4字节/字符，最先/最后出现位置的分块稀疏表约log2(n / 32) / 4字节/字符
+ * @Date：15:40 2026/10/19
+ */
+public final class StringIndex {
+
+    /** 分块稀疏表中每块的大小 **/
+    private static final int BLOCK_SHIFT = 5;
+
+    /** 源字符串的副本 **/
+    private final char[] text;
+
+    /** 后缀数组，sa[i]是第i小的后缀的开始位置 **/
+    private final int[] sa;
+
+    /** lcp[i]是后缀sa[i - 1]和sa[i]的最长公共前缀长度，lcp[0] = 0 **/
+    private final int[] lcp;
+
+    /** 按块划分的sa最小值的稀疏表，用于求最先出现的位置 **/
+    private final int[][] blockMin;
+
+    /** 按块划分的sa最大值的稀疏表，用于求最后出现的位置 **/
+    private final int[][] blockMax;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：对指定的字符串建立索引
+     * str ：需要建立索引的字符串
+     * PS ：str为空时会抛出 NullPointerException(空指针异常)
+     * @Date：15:44 2026/10/19
+     */
+    public StringIndex(String str) {
+        this.text = str.toCharArray();
+        final int n = text.length;
+        int[] s = new int[n];
+        int upper = 0;
+        for(int i = 0; i < n; i++) {
+            s[i] = text[i];
+            if(s[i] > upper) {
+                upper = s[i];
+            }
+        }
+        this.sa = saIs(s, upper);
+        this.lcp = kasai(text, sa);
+
+        int blocks = (n + (1 << BLOCK_SHIFT) - 1) >>> BLOCK_SHIFT;
+        int levels = 1;
+        while((1 << levels) <= blocks) {
+            levels++;
+        }
+        blockMin = new int[levels][];
+        blockMax = new int[levels][];
+        blockMin[0] = new int[blocks];
+        blockMax[0] = new int[blocks];
+        for(int b = 0; b < blocks; b++) {
+            int from = b << BLOCK_SHIFT;
+            int to = Math.min(n, from + (1 << BLOCK_SHIFT));
+            int min = Integer.MAX_VALUE, max = -1;
+            for(int i = from; i < to; i++) {
+                min = Math.min(min, sa[i]);
+                max = Math.max(max, sa[i]);
+            }
+            blockMin[0][b] = min;
+            blockMax[0][b] = max;
+        }
+        for(int k = 1; k < levels; k++) {
+            int len = blocks - (1 << k) + 1;
+            int half = 1 << (k - 1);
+            blockMin[k] = new int[len];
+            blockMax[k] = new int[len];
+            for(int b = 0; b < len; b++) {
+                blockMin[k][b] = Math.min(blockMin[k - 1][b], blockMin[k - 1][b + half]);
+                blockMax[k][b] = Math.max(blockMax[k - 1][b], blockMax[k - 1][b + half]);
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回被索引的字符串的长度
+     * @Date：15:46 2026/10/19
+     */
+    public int length() {
+        return text.length;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回指定字符串第一次出现的位置，如果没有返回-1，结果与String.indexOf(String)相同
+     * str ：需要查找的字符串
+     * @Date：15:48 2026/10/19
+     */
+    public int indexOf(String str) {
+        // 直接使用String内部的数组，查询时不复制查询串
+        char[] p = str.getValue();
+        if(p.length == 0) {
+            return 0;
+        }
+        int lo = lowerBound(p);
+        int hi = upperBound(p, lo);
+        return (lo == hi) ? -1 : rangeMin(lo, hi);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回指定字符串最后一次出现的位置，如果没有返回-1，结果与String.lastIndexOf(String)相同
+     * str ：需要查找的字符串
+     * @Date：15:50 2026/10/19
+     */
+    public int lastIndexOf(String str) {
+        char[] p = str.getValue();
+        if(p.length == 0) {
+            return text.length;
+        }
+        int lo = lowerBound(p);
+        int hi = upperBound(p, lo);
+        return (lo == hi) ? -1 : rangeMax(lo, hi);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：判断被索引的字符串是否包含指定的字符串，是-true，否-false
+     * str ：需要查找的字符串
+     * @Date：15:51 2026/10/19
+     */
+    public boolean contains(CharSequence str) {
+        if(str instanceof String) {
+            char[] p = ((String) str).getValue();
+            if(p.length == 0) {
+                return true;
+            }
+            int lo = lowerBound(p);
+            return lo < sa.length && startsWith(sa[lo], p, 0);
+        }
+        // 其他的CharSequence在二分时用charAt逐个比较，不复制成字符串
+        final char[] t = text;
+        final int n = t.length;
+        final int m = str.length();
+        if(m == 0) {
+            return true;
+        }
+        int lo = 0, hi = n;
+        int llcp = 0, rlcp = 0;
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int pos = sa[mid];
+            int k = Math.min(llcp, rlcp);
+            while(k < m && pos + k < n && t[pos + k] == str.charAt(k)) {
+                k++;
+            }
+            if(k == m) {
+                return true;
+            }
+            if(pos + k < n && t[pos + k] > str.charAt(k)) {
+                hi = mid;
+                rlcp = k;
+            } else {
+                lo = mid + 1;
+                llcp = k;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回指定字符串出现的次数(允许重叠，"aaa"中"aa"出现2次)
+     * str ：需要查找的字符串
+     * @Date：15:53 2026/10/19
+     */
+    public int count(String str) {
+        char[] p = str.getValue();
+        if(p.length == 0) {
+            return text.length + 1;
+        }
+        int lo = lowerBound(p);
+        return upperBound(p, lo) - lo;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回指定字符串所有出现的位置(允许重叠)，按从小到大排列，没有时返回空数组
+     * str ：需要查找的字符串
+     * @Date：15:55 2026/10/19
+     */
+    public int[] indexesOf(String str) {
+        char[] p = str.getValue();
+        if(p.length == 0) {
+            int[] all = new int[text.length + 1];
+            for(int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        int lo = lowerBound(p);
+        int[] result = Arrays.copyOfRange(sa, lo, upperBound(p, lo));
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回排名为rank的后缀的开始位置
+     * rank ：排名，从0开始
+     * PS ：rank不在[0, length())内时会抛出 ArrayIndexOutOfBoundsException(数组下标越界异常)
+     * @Date：15:57 2026/10/19
+     */
+    public int suffixAt(int rank) {
+        return sa[rank];
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回排名为rank - 1和rank的两个后缀的最长公共前缀长度，rank为0时返回0
+     * rank ：排名，从0开始
+     * PS ：rank不在[0, length())内时会抛出 ArrayIndexOutOfBoundsException(数组下标越界异常)
+     * @Date：15:58 2026/10/19
+     */
+    public int lcpAt(int rank) {
+        return lcp[rank];
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回第一个不小于p的后缀的排名。二分时记录p与左右边界的公共前缀长度，
+     *              中间的后缀至少共享其中较小的那个长度，比较时可以直接跳过
+     * @Date：16:02 2026/10/19
+     */
+    private int lowerBound(char[] p) {
+        final char[] t = text;
+        final int n = t.length;
+        final int m = p.length;
+        int lo = 0, hi = n;
+        int llcp = 0, rlcp = 0;
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int pos = sa[mid];
+            int k = Math.min(llcp, rlcp);
+            while(k < m && pos + k < n && t[pos + k] == p[k]) {
+                k++;
+            }
+            if(k == m || (pos + k < n && t[pos + k] > p[k])) {
+                hi = mid;
+                rlcp = k;
+            } else {
+                lo = mid + 1;
+                llcp = k;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回from之后第一个不以p开头且大于p的后缀的排名
+     * @Date：16:05 2026/10/19
+     */
+    private int upperBound(char[] p, int from) {
+        final char[] t = text;
+        final int n = t.length;
+        final int m = p.length;
+        int lo = from, hi = n;
+        int llcp = 0, rlcp = 0;
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int pos = sa[mid];
+            int k = Math.min(llcp, rlcp);
+            while(k < m && pos + k < n && t[pos + k] == p[k]) {
+                k++;
+            }
+            if(k < m && pos + k < n && t[pos + k] > p[k]) {
+                hi = mid;
+                rlcp = k;
+            } else {
+                lo = mid + 1;
+                llcp = k;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：判断从pos开始的后缀是否以p开头，前k个字符已知相同
+     * @Date：16:06 2026/10/19
+     */
+    private boolean startsWith(int pos, char[] p, int k) {
+        if(pos > text.length - p.length) {
+            return false;
+        }
+        for(; k < p.length; k++) {
+            if(text[pos + k] != p[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回sa[from, to)中的最小值，两端不满一块的部分直接扫描，中间的整块查稀疏表
+     * @Date：16:08 2026/10/19
+     */
+    private int rangeMin(int from, int to) {
+        int bFrom = (from + (1 << BLOCK_SHIFT) - 1) >>> BLOCK_SHIFT;
+        int bTo = to >>> BLOCK_SHIFT;
+        int min = Integer.MAX_VALUE;
+        if(bFrom >= bTo) {
+            for(int i = from; i < to; i++) {
+                min = Math.min(min, sa[i]);
+            }
+            return min;
+        }
+        for(int i = from, end = bFrom << BLOCK_SHIFT; i < end; i++) {
+            min = Math.min(min, sa[i]);
+        }
+        for(int i = bTo << BLOCK_SHIFT; i < to; i++) {
+            min = Math.min(min, sa[i]);
+        }
+        int k = 31 - Integer.numberOfLeadingZeros(bTo - bFrom);
+        min = Math.min(min, blockMin[k][bFrom]);
+        return Math.min(min, blockMin[k][bTo - (1 << k)]);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回sa[from, to)中的最大值，做法同rangeMin
+     * @Date：16:10 2026/10/19
+     */
+    private int rangeMax(int from, int to) {
+        int bFrom = (from + (1 << BLOCK_SHIFT) - 1) >>> BLOCK_SHIFT;
+        int bTo = to >>> BLOCK_SHIFT;
+        int max = -1;
+        if(bFrom >= bTo) {
+            for(int i = from; i < to; i++) {
+                max = Math.max(max, sa[i]);
+            }
+            return max;
+        }
+        for(int i = from, end = bFrom << BLOCK_SHIFT; i < end; i++) {
+            max = Math.max(max, sa[i]);
+        }
+        for(int i = bTo << BLOCK_SHIFT; i < to; i++) {
+            max = Math.max(max, sa[i]);
+        }
+        int k = 31 - Integer.numberOfLeadingZeros(bTo - bFrom);
+        max = Math.max(max, blockMax[k][bFrom]);
+        return Math.max(max, blockMax[k][bTo - (1 << k)]);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：SA-IS算法构造后缀数组。先按L/S类型找出所有LMS子串，诱导排序后给LMS子串重新编号，
+     *              如果编号有重复就对编号组成的新串递归求后缀数组，最后用排好序的LMS后缀再诱导一次
+     * s ：源数据，每个值在[0, upper]内
+     * upper ：最大值
+     * @Date：16:15 2026/10/19
+     */
+    private static int[] saIs(int[] s, int upper) {
+        final int n = s.length;
+        if(n == 0) {
+            return new int[0];
+        }
+        if(n == 1) {
+            return new int[]{0};
+        }
+        if(n == 2) {
+            return (s[0] < s[1]) ? new int[]{0, 1} : new int[]{1, 0};
+        }
+        int[] sa = new int[n];
+        boolean[] ls = new boolean[n];
+        for(int i = n - 2; i >= 0; i--) {
+            ls[i] = (s[i] == s[i + 1]) ? ls[i + 1] : (s[i] < s[i + 1]);
+        }
+        // sumL[c]是c桶中L型的开始位置，sumS[c]是c桶中S型的开始位置
+        int[] sumL = new int[upper + 1];
+        int[] sumS = new int[upper + 1];
+        for(int i = 0; i < n; i++) {
+            if(!ls[i]) {
+                sumS[s[i]]++;
+            } else {
+                sumL[s[i] + 1]++;
+            }
+        }
+        for(int i = 0; i <= upper; i++) {
+            sumS[i] += sumL[i];
+            if(i < upper) {
+                sumL[i + 1] += sumS[i];
+            }
+        }
+
+        int[] lmsMap = new int[n + 1];
+        Arrays.fill(lmsMap, -1);
+        int m = 0;
+        for(int i = 1; i < n; i++) {
+            if(!ls[i - 1] && ls[i]) {
+                lmsMap[i] = m++;
+            }
+        }
+        int[] lms = new int[m];
+        for(int i = 1, j = 0; i < n; i++) {
+            if(!ls[i - 1] && ls[i]) {
+                lms[j++] = i;
+            }
+        }
+        int[] buf = new int[upper + 1];
+        induce(s, sa, ls, sumL, sumS, buf, lms, m, upper);
+
+        if(m > 0) {
+            int[] sortedLms = new int[m];
+            for(int i = 0, j = 0; i < n; i++) {
+                int v = sa[i];
+                if(lmsMap[v] != -1) {
+                    sortedLms[j++] = v;
+                }
+            }
+            // 给LMS子串编号，相同的子串编号相同
+            int[] recS = new int[m];
+            int recUpper = 0;
+            recS[lmsMap[sortedLms[0]]] = 0;
+            for(int i = 1; i < m; i++) {
+                int l = sortedLms[i - 1], r = sortedLms[i];
+                int endL = (lmsMap[l] + 1 < m) ? lms[lmsMap[l] + 1] : n;
+                int endR = (lmsMap[r] + 1 < m) ? lms[lmsMap[r] + 1] : n;
+                boolean same = true;
+                if(endL - l != endR - r) {
+                    same = false;
+                } else {
+                    while(l < endL) {
+                        if(s[l] != s[r]) {
+                            break;
+                        }
+                        l++;
+                        r++;
+                    }
+                    if(l == n || s[l] != s[r]) {
+                        same = false;
+                    }
+                }
+                if(!same) {
+                    recUpper++;
+                }
+                recS[lmsMap[sortedLms[i]]] = recUpper;
+            }
+            int[] recSa = saIs(recS, recUpper);
+            for(int i = 0; i < m; i++) {
+                sortedLms[i] = lms[recSa[i]];
+            }
+            induce(s, sa, ls, sumL, sumS, buf, sortedLms, m, upper);
+        }
+        return sa;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：诱导排序：把LMS后缀放到各自桶中S型的开头，然后从左到右诱导L型，再从右到左诱导S型
+     * @Date：16:20 2026/10/19
+     */
+    private static void induce(int[] s, int[] sa, boolean[] ls, int[] sumL, int[] sumS,
+                               int[] buf, int[] lms, int m, int upper) {
+        final int n = s.length;
+        Arrays.fill(sa, -1);
+        System.arraycopy(sumS, 0, buf, 0, upper + 1);
+        for(int i = 0; i < m; i++) {
+            int d = lms[i];
+            if(d != n) {
+                sa[buf[s[d]]++] = d;
+            }
+        }
+        System.arraycopy(sumL, 0, buf, 0, upper + 1);
+        sa[buf[s[n - 1]]++] = n - 1;
+        for(int i = 0; i < n; i++) {
+            int v = sa[i];
+            if(v >= 1 && !ls[v - 1]) {
+                sa[buf[s[v - 1]]++] = v - 1;
+            }
+        }
+        System.arraycopy(sumL, 0, buf, 0, upper + 1);
+        for(int i = n - 1; i >= 0; i--) {
+            int v = sa[i];
+            if(v >= 1 && ls[v - 1]) {
+                sa[--buf[s[v - 1] + 1]] = v - 1;
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：Kasai算法求LCP数组，按原字符串的顺序处理后缀，相邻两次的公共前缀最多减少1
+     * @Date：16:24 2026/10/19
+     */
+    private static int[] kasai(char[] t, int[] sa) {
+        final int n = t.length;
+        int[] rank = new int[n];
+        for(int i = 0; i < n; i++) {
+            rank[sa[i]] = i;
+        }
+        int[] lcp = new int[n];
+        int h = 0;
+        for(int i = 0; i < n; i++) {
+            if(h > 0) {
+                h--;
+            }
+            if(rank[i] == 0) {
+                h = 0;
+                continue;
+            }
+            int j = sa[rank[i] - 1];
+            while(i + h < n && j + h < n && t[i + h] == t[j + h]) {
+                h++;
+            }
+            lcp[rank[i]] = h;
+        }
+        return lcp;
+    }
+}
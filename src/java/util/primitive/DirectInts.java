@@ -0,0 +1,222 @@
+package java.util.primitive;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * @Author：zhuangfei
+ * @Description：堆外int存储，OffHeapIntArray和OffHeapInt2IntMap共用。
+ *              单个直接缓冲区最多2GB，所以按CHUNK_INTS个int分块，每块是一个本机字节序的直接缓冲区，
+ *              下标用long表示，总长度可以超过Integer.MAX_VALUE。
+ *              新分配的内存全部为0。占用的是直接内存，受-XX:MaxDirectMemorySize限制，不计入Java堆
+ * @Date：14:00 2026/10/19
+ */
+final class DirectInts {
+
+    static final int CHUNK_SHIFT = 24;
+
+    /**
+     * 每块的int个数，即每块64MB
+     */
+    static final int CHUNK_INTS = 1 << CHUNK_SHIFT;
+
+    static final int CHUNK_MASK = CHUNK_INTS - 1;
+
+    private ByteBuffer[] bytes;
+
+    private IntBuffer[] chunks;
+
+    private long length;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：分配length个int，内容全部为0
+     * PS ：length为负数时会抛出 IllegalArgumentException(非法参数异常)
+     *     直接内存不足时会抛出 OutOfMemoryError
+     * @Date：14:02 2026/10/19
+     */
+    DirectInts(long length) {
+        if(length < 0) {
+            throw new IllegalArgumentException("Illegal length: " + length);
+        }
+        long n = (length + CHUNK_MASK) >>> CHUNK_SHIFT;
+        if(n > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Length too large: " + length);
+        }
+        bytes = new ByteBuffer[(int) n];
+        chunks = new IntBuffer[(int) n];
+        try {
+            for(int c = 0; c < n; c++) {
+                allocateChunk(c, (int) Math.min(CHUNK_INTS, length - ((long) c << CHUNK_SHIFT)));
+            }
+        } catch(OutOfMemoryError e) {
+            free();
+            throw e;
+        }
+        this.length = length;
+    }
+
+    private void allocateChunk(int c, int ints) {
+        ByteBuffer b = allocate(ints);
+        bytes[c] = b;
+        chunks[c] = b.asIntBuffer();
+    }
+
+    private static ByteBuffer allocate(int ints) {
+        return ByteBuffer.allocateDirect(ints << 2).order(ByteOrder.nativeOrder());
+    }
+
+    long length() {
+        return length;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：长度是CHUNK_INTS的整数倍时，可以直接在后面追加新的块，不用复制已有的数据
+     * @Date：14:04 2026/10/19
+     */
+    boolean canExtend() {
+        return (length & CHUNK_MASK) == 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：追加整块，长度扩大到newLength向上取整到CHUNK_INTS的倍数。调用前canExtend()必须为true
+     * @Date：14:05 2026/10/19
+     */
+    void extend(long newLength) {
+        long n = (newLength + CHUNK_MASK) >>> CHUNK_SHIFT;
+        if(n > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Length too large: " + newLength);
+        }
+        int old = chunks.length;
+        if(n <= old) {
+            return;
+        }
+        // 新的块先分配到临时数组中，全部成功后才替换，分配失败时原来的内容和长度都不变
+        ByteBuffer[] nb = Arrays.copyOf(bytes, (int) n);
+        IntBuffer[] nc = Arrays.copyOf(chunks, (int) n);
+        try {
+            for(int c = old; c < n; c++) {
+                ByteBuffer b = allocate(CHUNK_INTS);
+                nb[c] = b;
+                nc[c] = b.asIntBuffer();
+            }
+        } catch(OutOfMemoryError e) {
+            for(int c = old; c < n; c++) {
+                clean(nb[c]);
+            }
+            throw e;
+        }
+        bytes = nb;
+        chunks = nc;
+        length = n << CHUNK_SHIFT;
+    }
+
+    int get(long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)].get((int) index & CHUNK_MASK);
+    }
+
+    void put(long index, int value) {
+        chunks[(int) (index >>> CHUNK_SHIFT)].put((int) index & CHUNK_MASK, value);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把[index, index + len)复制到dst[off, off + len)，可以跨块。调用方负责检查范围
+     * @Date：14:07 2026/10/19
+     */
+    void get(long index, int[] dst, int off, int len) {
+        while(len > 0) {
+            IntBuffer b = chunks[(int) (index >>> CHUNK_SHIFT)].duplicate();
+            int p = (int) index & CHUNK_MASK;
+            int n = Math.min(len, b.capacity() - p);
+            b.position(p);
+            b.get(dst, off, n);
+            index += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[off, off + len)复制到[index, index + len)，可以跨块。调用方负责检查范围
+     * @Date：14:08 2026/10/19
+     */
+    void put(long index, int[] src, int off, int len) {
+        while(len > 0) {
+            IntBuffer b = chunks[(int) (index >>> CHUNK_SHIFT)].duplicate();
+            int p = (int) index & CHUNK_MASK;
+            int n = Math.min(len, b.capacity() - p);
+            b.position(p);
+            b.put(src, off, n);
+            index += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把本存储的[srcIndex, srcIndex + len)复制到dst的[dstIndex, dstIndex + len)，两者不能是同一个对象
+     * @Date：14:10 2026/10/19
+     */
+    void copyTo(long srcIndex, DirectInts dst, long dstIndex, long len) {
+        while(len > 0) {
+            IntBuffer s = chunks[(int) (srcIndex >>> CHUNK_SHIFT)].duplicate();
+            IntBuffer d = dst.chunks[(int) (dstIndex >>> CHUNK_SHIFT)].duplicate();
+            int sp = (int) srcIndex & CHUNK_MASK;
+            int dp = (int) dstIndex & CHUNK_MASK;
+            int n = (int) Math.min(len, Math.min(s.capacity() - sp, d.capacity() - dp));
+            s.position(sp).limit(sp + n);
+            d.position(dp);
+            d.put(s);
+            srcIndex += n;
+            dstIndex += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把[from, to)全部置为value
+     * @Date：14:12 2026/10/19
+     */
+    void fill(long from, long to, int value) {
+        for(long i = from; i < to; i++) {
+            put(i, value);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：立即释放所有直接内存，之后不能再访问。可以重复调用
+     * @Date：14:13 2026/10/19
+     */
+    void free() {
+        ByteBuffer[] b = bytes;
+        bytes = new ByteBuffer[0];
+        chunks = new IntBuffer[0];
+        length = 0;
+        for(ByteBuffer buf : b) {
+            clean(buf);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：立即释放一个直接缓冲区的内存，buf为null时什么也不做
+     * @Date：14:14 2026/10/19
+     */
+    private static void clean(ByteBuffer buf) {
+        if(buf != null) {
+            sun.misc.Cleaner cleaner = ((sun.nio.ch.DirectBuffer) buf).cleaner();
+            if(cleaner != null) {
+                cleaner.clean();
+            }
+        }
+    }
+}
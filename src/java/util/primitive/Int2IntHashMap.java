@@ -0,0 +1,648 @@
+package java.util.primitive;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * @Author：zhuangfei
+ * @Description：开放寻址(线性探测)的int到int的映射，相当于不装箱的HashMap<Integer, Integer>。
+ *              键和值分别存放在两个平行的int[]中，键为0的槽表示空槽，键0本身单独记录。
+ *              查不到时返回构造时指定的missingValue，不需要先containsKey再get。
+ *              需要Map<Integer, Integer>时可以用boxed()取得视图。不是线程安全的
+ * @Date：12:40 2026/10/19
+ */
+public class Int2IntHashMap {
+
+    /**
+     * @Author：zhuangfei
+     * @Description：遍历键值对的回调，避免装箱
+     * @Date：12:41 2026/10/19
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    private final float loadFactor;
+
+    private final int missingValue;
+
+    private int[] keys;
+
+    private int[] values;
+
+    private int mask;
+
+    private int threshold;
+
+    /**
+     * 除键0以外的键值对个数
+     */
+    private int size;
+
+    private boolean containsZeroKey;
+
+    private int zeroValue;
+
+    private int modCount;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个空映射，查不到时返回0
+     * @Date：12:42 2026/10/19
+     */
+    public Int2IntHashMap() {
+        this(16, IntHashing.DEFAULT_LOAD_FACTOR, 0);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个空映射
+     * missingValue ：查不到时返回的值
+     * @Date：12:43 2026/10/19
+     */
+    public Int2IntHashMap(int missingValue) {
+        this(16, IntHashing.DEFAULT_LOAD_FACTOR, missingValue);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个空映射，在键值对个数达到expected之前不会扩容
+     * expected ：预计的键值对个数
+     * loadFactor ：装载因子，在(0, 1)之间
+     * missingValue ：查不到时返回的值
+     * PS ：参数不合法时会抛出 IllegalArgumentException(非法参数异常)
+     * @Date：12:44 2026/10/19
+     */
+    public Int2IntHashMap(int expected, float loadFactor, int missingValue) {
+        this.loadFactor = loadFactor;
+        this.missingValue = missingValue;
+        allocate(IntHashing.capacityFor(expected, loadFactor));
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回查不到时使用的值
+     * @Date：12:45 2026/10/19
+     */
+    public int missingValue() {
+        return missingValue;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回键值对个数
+     * @Date：12:45 2026/10/19
+     */
+    public int size() {
+        return containsZeroKey ? size + 1 : size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：映射为空时返回true
+     * @Date：12:46 2026/10/19
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回key对应的值，没有时返回missingValue
+     * @Date：12:46 2026/10/19
+     */
+    public int get(int key) {
+        return getOrDefault(key, missingValue);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回key对应的值，没有时返回defaultValue
+     * @Date：12:47 2026/10/19
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if(key == 0) {
+            return containsZeroKey ? zeroValue : defaultValue;
+        }
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：有key对应的键值对时返回true
+     * @Date：12:48 2026/10/19
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? containsZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：有值等于value的键值对时返回true，需要遍历所有槽位
+     * @Date：12:49 2026/10/19
+     */
+    public boolean containsValue(int value) {
+        if(containsZeroKey && zeroValue == value) {
+            return true;
+        }
+        int[] k = keys;
+        int[] v = values;
+        for(int i = 0; i < k.length; i++) {
+            if(k[i] != 0 && v[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：设置key对应的值，返回原来的值，原来没有时返回missingValue
+     * @Date：12:50 2026/10/19
+     */
+    public int put(int key, int value) {
+        if(key == 0) {
+            int old = containsZeroKey ? zeroValue : missingValue;
+            if(!containsZeroKey) {
+                containsZeroKey = true;
+                modCount++;
+            }
+            zeroValue = value;
+            return old;
+        }
+        int[] k = keys;
+        int m = mask;
+        int i = IntHashing.mix(key) & m;
+        for(int cur; (cur = k[i]) != 0; i = (i + 1) & m) {
+            if(cur == key) {
+                int old = values[i];
+                values[i] = value;
+                return old;
+            }
+        }
+        k[i] = key;
+        values[i] = value;
+        modCount++;
+        if(++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return missingValue;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把key对应的值加上delta并返回相加后的值，原来没有时从0开始加。
+     *              计数的场景只需要查找一次
+     * @Date：12:52 2026/10/19
+     */
+    public int addTo(int key, int delta) {
+        if(key == 0) {
+            if(!containsZeroKey) {
+                containsZeroKey = true;
+                zeroValue = 0;
+                modCount++;
+            }
+            return zeroValue += delta;
+        }
+        int[] k = keys;
+        int m = mask;
+        int i = IntHashing.mix(key) & m;
+        for(int cur; (cur = k[i]) != 0; i = (i + 1) & m) {
+            if(cur == key) {
+                return values[i] += delta;
+            }
+        }
+        k[i] = key;
+        values[i] = delta;
+        modCount++;
+        if(++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除key对应的键值对，返回原来的值，原来没有时返回missingValue
+     * @Date：12:53 2026/10/19
+     */
+    public int remove(int key) {
+        if(key == 0) {
+            if(!containsZeroKey) {
+                return missingValue;
+            }
+            containsZeroKey = false;
+            modCount++;
+            return zeroValue;
+        }
+        int slot = find(key);
+        if(slot < 0) {
+            return missingValue;
+        }
+        int old = values[slot];
+        removeSlot(slot);
+        return old;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除所有键值对，不缩小槽位数组
+     * @Date：12:54 2026/10/19
+     */
+    public void clear() {
+        if(size() > 0) {
+            Arrays.fill(keys, 0);
+            size = 0;
+            containsZeroKey = false;
+            modCount++;
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：对每个键值对调用action，顺序不确定
+     * @Date：12:55 2026/10/19
+     */
+    public void forEach(EntryConsumer action) {
+        if(containsZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        int[] k = keys;
+        int[] v = values;
+        for(int i = 0; i < k.length; i++) {
+            if(k[i] != 0) {
+                action.accept(k[i], v[i]);
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回所有键组成的新数组，顺序不确定
+     * @Date：12:56 2026/10/19
+     */
+    public int[] keys() {
+        int[] result = new int[size()];
+        int j = 0;
+        if(containsZeroKey) {
+            result[j++] = 0;
+        }
+        for(int key : keys) {
+            if(key != 0) {
+                result[j++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回所有值组成的新数组，顺序与keys()相同
+     * @Date：12:57 2026/10/19
+     */
+    public int[] values() {
+        int[] result = new int[size()];
+        int j = 0;
+        if(containsZeroKey) {
+            result[j++] = zeroValue;
+        }
+        int[] k = keys;
+        int[] v = values;
+        for(int i = 0; i < k.length; i++) {
+            if(k[i] != 0) {
+                result[j++] = v[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回Map<Integer, Integer>视图，读写都会转到本映射上。
+     *              视图中只有实际存在的键，查不到时按Map的约定返回null而不是missingValue；视图不接受null的键和值
+     * @Date：12:58 2026/10/19
+     */
+    public Map<Integer, Integer> boxed() {
+        return new BoxedView();
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：键值对完全相同时两个映射相等，不比较missingValue
+     * @Date：12:59 2026/10/19
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if(this == obj) {
+            return true;
+        }
+        if(!(obj instanceof Int2IntHashMap)) {
+            return false;
+        }
+        Int2IntHashMap other = (Int2IntHashMap) obj;
+        if(other.size() != size() || other.containsZeroKey != containsZeroKey
+                || (containsZeroKey && other.zeroValue != zeroValue)) {
+            return false;
+        }
+        int[] k = keys;
+        int[] v = values;
+        for(int i = 0; i < k.length; i++) {
+            if(k[i] != 0) {
+                int slot = other.find(k[i]);
+                if(slot < 0 || other.values[slot] != v[i]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：与内容相同的Map<Integer, Integer>的hashCode相等
+     * @Date：13:00 2026/10/19
+     */
+    @Override
+    public int hashCode() {
+        int h = containsZeroKey ? Integer.hashCode(zeroValue) : 0;
+        int[] k = keys;
+        int[] v = values;
+        for(int i = 0; i < k.length; i++) {
+            if(k[i] != 0) {
+                h += Integer.hashCode(k[i]) ^ Integer.hashCode(v[i]);
+            }
+        }
+        return h;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回{k1=v1, k2=v2}格式的字符串
+     * @Date：13:01 2026/10/19
+     */
+    @Override
+    public String toString() {
+        if(size() == 0) {
+            return "{}";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append('{');
+        forEach((key, value) -> {
+            if(sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回非0的key所在的槽位，没有时返回-1
+     * @Date：13:02 2026/10/19
+     */
+    private int find(int key) {
+        int[] k = keys;
+        int m = mask;
+        for(int i = IntHashing.mix(key) & m; ; i = (i + 1) & m) {
+            int cur = k[i];
+            if(cur == key) {
+                return i;
+            }
+            if(cur == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = IntHashing.threshold(capacity, loadFactor);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：换成capacity个槽位的数组，重新放入所有键值对
+     * @Date：13:03 2026/10/19
+     */
+    private void rehash(int capacity) {
+        if(capacity > IntHashing.MAX_CAPACITY || capacity <= 0) {
+            throw new IllegalStateException("Map too large: " + size());
+        }
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        int[] k = keys;
+        int[] v = values;
+        int m = mask;
+        for(int j = 0; j < oldKeys.length; j++) {
+            int key = oldKeys[j];
+            if(key != 0) {
+                int i = IntHashing.mix(key) & m;
+                while(k[i] != 0) {
+                    i = (i + 1) & m;
+                }
+                k[i] = key;
+                v[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：清空slot，并把后面同一串中可以前移的键值对移到空位上，做法与IntHashSet相同
+     * @Date：13:05 2026/10/19
+     */
+    private void removeSlot(int slot) {
+        int[] k = keys;
+        int[] v = values;
+        int m = mask;
+        int gap = slot;
+        for(int j = (gap + 1) & m; k[j] != 0; j = (j + 1) & m) {
+            int ideal = IntHashing.mix(k[j]) & m;
+            if(((j - ideal) & m) >= ((j - gap) & m)) {
+                k[gap] = k[j];
+                v[gap] = v[j];
+                gap = j;
+            }
+        }
+        k[gap] = 0;
+        size--;
+        modCount++;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：boxed()返回的视图，只重写了需要直接查表的方法，其余的由AbstractMap通过entrySet实现
+     * @Date：13:07 2026/10/19
+     */
+    private final class BoxedView extends AbstractMap<Integer, Integer> {
+
+        @Override
+        public int size() {
+            return Int2IntHashMap.this.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer && Int2IntHashMap.this.containsKey((Integer) key);
+        }
+
+        @Override
+        public boolean containsValue(Object value) {
+            return value instanceof Integer && Int2IntHashMap.this.containsValue((Integer) value);
+        }
+
+        @Override
+        public Integer get(Object key) {
+            if(!(key instanceof Integer)) {
+                return null;
+            }
+            int k = (Integer) key;
+            return Int2IntHashMap.this.containsKey(k) ? Int2IntHashMap.this.get(k) : null;
+        }
+
+        @Override
+        public Integer put(Integer key, Integer value) {
+            int k = key;
+            int v = value;
+            Integer old = get(key);
+            Int2IntHashMap.this.put(k, v);
+            return old;
+        }
+
+        @Override
+        public Integer remove(Object key) {
+            Integer old = get(key);
+            if(old != null) {
+                Int2IntHashMap.this.remove((Integer) key);
+            }
+            return old;
+        }
+
+        @Override
+        public void clear() {
+            Int2IntHashMap.this.clear();
+        }
+
+        @Override
+        public Set<Map.Entry<Integer, Integer>> entrySet() {
+            return new AbstractSet<Map.Entry<Integer, Integer>>() {
+                @Override
+                public Iterator<Map.Entry<Integer, Integer>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return Int2IntHashMap.this.size();
+                }
+
+                @Override
+                public void clear() {
+                    Int2IntHashMap.this.clear();
+                }
+            };
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：视图的entrySet的迭代器，遍历顺序和删除的处理方式与IntHashSet的迭代器相同。
+     *              返回的Entry是当时键值对的快照，setValue会写回映射
+     * @Date：13:10 2026/10/19
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<Integer, Integer>> {
+
+        private final int base;
+
+        private boolean zeroPending = containsZeroKey;
+
+        private int next;
+
+        private int lastReturned = -2;
+
+        private int lastKey;
+
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            int[] k = keys;
+            int b = 0;
+            while(k[b] != 0) {
+                b++;
+            }
+            base = b;
+            advance();
+        }
+
+        private void advance() {
+            int[] k = keys;
+            do {
+                next++;
+            } while(next < k.length && k[(base + next) & mask] == 0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return zeroPending || next < keys.length;
+        }
+
+        @Override
+        public Map.Entry<Integer, Integer> next() {
+            if(modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            int value;
+            if(zeroPending) {
+                zeroPending = false;
+                lastReturned = -1;
+                lastKey = 0;
+                value = zeroValue;
+            } else {
+                if(next >= keys.length) {
+                    throw new NoSuchElementException();
+                }
+                int slot = (base + next) & mask;
+                lastReturned = next;
+                lastKey = keys[slot];
+                value = values[slot];
+                advance();
+            }
+            final int key = lastKey;
+            return new AbstractMap.SimpleEntry<Integer, Integer>(key, value) {
+                @Override
+                public Integer setValue(Integer v) {
+                    Int2IntHashMap.this.put(key, v);
+                    return super.setValue(v);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if(lastReturned == -2) {
+                throw new IllegalStateException();
+            }
+            if(modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            Int2IntHashMap.this.remove(lastKey);
+            if(lastReturned >= 0 && keys[(base + lastReturned) & mask] != 0) {
+                next = lastReturned;
+            }
+            lastReturned = -2;
+            expectedModCount = modCount;
+        }
+    }
+}
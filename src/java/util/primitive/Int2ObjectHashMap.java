@@ -0,0 +1,545 @@
+package java.util.primitive;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * @Author：zhuangfei
+ * @Description：开放寻址(线性探测)的int到对象的映射，相当于键不装箱的HashMap<Integer, V>。
+ *              键存放在int[]中，值存放在平行的Object[]中，值为null的槽表示空槽，所以不接受null值，
+ *              键0也不需要特殊处理。需要Map<Integer, V>时可以用boxed()取得视图。不是线程安全的
+ * @Date：13:15 2026/10/19
+ */
+public class Int2ObjectHashMap<V> {
+
+    /**
+     * @Author：zhuangfei
+     * @Description：遍历键值对的回调，键不装箱
+     * @Date：13:16 2026/10/19
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    private final float loadFactor;
+
+    private int[] keys;
+
+    private Object[] values;
+
+    private int mask;
+
+    private int threshold;
+
+    private int size;
+
+    private int modCount;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个空映射
+     * @Date：13:17 2026/10/19
+     */
+    public Int2ObjectHashMap() {
+        this(16);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个空映射，在键值对个数达到expected之前不会扩容
+     * expected ：预计的键值对个数
+     * PS ：expected为负数或过大时会抛出 IllegalArgumentException(非法参数异常)
+     * @Date：13:18 2026/10/19
+     */
+    public Int2ObjectHashMap(int expected) {
+        this(expected, IntHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个空映射并指定装载因子
+     * expected ：预计的键值对个数
+     * loadFactor ：装载因子，在(0, 1)之间
+     * PS ：参数不合法时会抛出 IllegalArgumentException(非法参数异常)
+     * @Date：13:19 2026/10/19
+     */
+    public Int2ObjectHashMap(int expected, float loadFactor) {
+        this.loadFactor = loadFactor;
+        allocate(IntHashing.capacityFor(expected, loadFactor));
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回键值对个数
+     * @Date：13:20 2026/10/19
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：映射为空时返回true
+     * @Date：13:20 2026/10/19
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回key对应的值，没有时返回null
+     * @Date：13:21 2026/10/19
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int slot = find(key);
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回key对应的值，没有时返回defaultValue
+     * @Date：13:22 2026/10/19
+     */
+    public V getOrDefault(int key, V defaultValue) {
+        V v = get(key);
+        return v != null ? v : defaultValue;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：有key对应的键值对时返回true
+     * @Date：13:22 2026/10/19
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：有值equals(value)的键值对时返回true，需要遍历所有槽位
+     * @Date：13:23 2026/10/19
+     */
+    public boolean containsValue(Object value) {
+        if(value == null) {
+            return false;
+        }
+        for(Object v : values) {
+            if(v != null && v.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：设置key对应的值，返回原来的值，原来没有时返回null
+     * PS ：value为null时会抛出 NullPointerException(空指针异常)
+     * @Date：13:24 2026/10/19
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        Objects.requireNonNull(value, "value");
+        int[] k = keys;
+        Object[] v = values;
+        int m = mask;
+        int i = IntHashing.mix(key) & m;
+        for(; v[i] != null; i = (i + 1) & m) {
+            if(k[i] == key) {
+                V old = (V) v[i];
+                v[i] = value;
+                return old;
+            }
+        }
+        k[i] = key;
+        v[i] = value;
+        modCount++;
+        if(++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：key没有对应的值时才设置为value，返回设置后的值(原来的值或value)
+     * PS ：value为null时会抛出 NullPointerException(空指针异常)
+     * @Date：13:26 2026/10/19
+     */
+    public V putIfAbsent(int key, V value) {
+        Objects.requireNonNull(value, "value");
+        V old = get(key);
+        if(old != null) {
+            return old;
+        }
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除key对应的键值对，返回原来的值，原来没有时返回null
+     * @Date：13:27 2026/10/19
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = find(key);
+        if(slot < 0) {
+            return null;
+        }
+        V old = (V) values[slot];
+        removeSlot(slot);
+        return old;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除所有键值对，不缩小槽位数组
+     * @Date：13:28 2026/10/19
+     */
+    public void clear() {
+        if(size > 0) {
+            Arrays.fill(values, null);
+            size = 0;
+            modCount++;
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：对每个键值对调用action，顺序不确定
+     * @Date：13:29 2026/10/19
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        int[] k = keys;
+        Object[] v = values;
+        for(int i = 0; i < v.length; i++) {
+            if(v[i] != null) {
+                action.accept(k[i], (V) v[i]);
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回所有键组成的新数组，顺序不确定
+     * @Date：13:30 2026/10/19
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int j = 0;
+        int[] k = keys;
+        Object[] v = values;
+        for(int i = 0; i < v.length; i++) {
+            if(v[i] != null) {
+                result[j++] = k[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回Map<Integer, V>视图，读写都会转到本映射上。视图不接受null的键和值
+     * @Date：13:31 2026/10/19
+     */
+    public Map<Integer, V> boxed() {
+        return new BoxedView();
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：键值对完全相同(值用equals比较)时两个映射相等
+     * @Date：13:32 2026/10/19
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if(this == obj) {
+            return true;
+        }
+        if(!(obj instanceof Int2ObjectHashMap)) {
+            return false;
+        }
+        Int2ObjectHashMap<?> other = (Int2ObjectHashMap<?>) obj;
+        if(other.size != size) {
+            return false;
+        }
+        int[] k = keys;
+        Object[] v = values;
+        for(int i = 0; i < v.length; i++) {
+            if(v[i] != null && !v[i].equals(other.get(k[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：与内容相同的Map<Integer, V>的hashCode相等
+     * @Date：13:33 2026/10/19
+     */
+    @Override
+    public int hashCode() {
+        int h = 0;
+        int[] k = keys;
+        Object[] v = values;
+        for(int i = 0; i < v.length; i++) {
+            if(v[i] != null) {
+                h += Integer.hashCode(k[i]) ^ v[i].hashCode();
+            }
+        }
+        return h;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回{k1=v1, k2=v2}格式的字符串
+     * @Date：13:34 2026/10/19
+     */
+    @Override
+    public String toString() {
+        if(size == 0) {
+            return "{}";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append('{');
+        forEach((key, value) -> {
+            if(sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value == this ? "(this Map)" : value);
+        });
+        return sb.append('}').toString();
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回key所在的槽位，没有时返回-1
+     * @Date：13:35 2026/10/19
+     */
+    private int find(int key) {
+        int[] k = keys;
+        Object[] v = values;
+        int m = mask;
+        for(int i = IntHashing.mix(key) & m; v[i] != null; i = (i + 1) & m) {
+            if(k[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = IntHashing.threshold(capacity, loadFactor);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：换成capacity个槽位的数组，重新放入所有键值对
+     * @Date：13:36 2026/10/19
+     */
+    private void rehash(int capacity) {
+        if(capacity > IntHashing.MAX_CAPACITY || capacity <= 0) {
+            throw new IllegalStateException("Map too large: " + size);
+        }
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        int[] k = keys;
+        Object[] v = values;
+        int m = mask;
+        for(int j = 0; j < oldValues.length; j++) {
+            if(oldValues[j] != null) {
+                int key = oldKeys[j];
+                int i = IntHashing.mix(key) & m;
+                while(v[i] != null) {
+                    i = (i + 1) & m;
+                }
+                k[i] = key;
+                v[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：清空slot，并把后面同一串中可以前移的键值对移到空位上，做法与IntHashSet相同
+     * @Date：13:38 2026/10/19
+     */
+    private void removeSlot(int slot) {
+        int[] k = keys;
+        Object[] v = values;
+        int m = mask;
+        int gap = slot;
+        for(int j = (gap + 1) & m; v[j] != null; j = (j + 1) & m) {
+            int ideal = IntHashing.mix(k[j]) & m;
+            if(((j - ideal) & m) >= ((j - gap) & m)) {
+                k[gap] = k[j];
+                v[gap] = v[j];
+                gap = j;
+            }
+        }
+        v[gap] = null;
+        size--;
+        modCount++;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：boxed()返回的视图，只重写了需要直接查表的方法，其余的由AbstractMap通过entrySet实现
+     * @Date：13:40 2026/10/19
+     */
+    private final class BoxedView extends AbstractMap<Integer, V> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer && Int2ObjectHashMap.this.containsKey((Integer) key);
+        }
+
+        @Override
+        public boolean containsValue(Object value) {
+            return Int2ObjectHashMap.this.containsValue(value);
+        }
+
+        @Override
+        public V get(Object key) {
+            return key instanceof Integer ? Int2ObjectHashMap.this.get((Integer) key) : null;
+        }
+
+        @Override
+        public V put(Integer key, V value) {
+            return Int2ObjectHashMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key) {
+            return key instanceof Integer ? Int2ObjectHashMap.this.remove((Integer) key) : null;
+        }
+
+        @Override
+        public void clear() {
+            Int2ObjectHashMap.this.clear();
+        }
+
+        @Override
+        public Set<Map.Entry<Integer, V>> entrySet() {
+            return new AbstractSet<Map.Entry<Integer, V>>() {
+                @Override
+                public Iterator<Map.Entry<Integer, V>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public void clear() {
+                    Int2ObjectHashMap.this.clear();
+                }
+            };
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：视图的entrySet的迭代器，遍历顺序和删除的处理方式与IntHashSet的迭代器相同。
+     *              返回的Entry是当时键值对的快照，setValue会写回映射
+     * @Date：13:42 2026/10/19
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<Integer, V>> {
+
+        private final int base;
+
+        private int next;
+
+        private int lastReturned = -1;
+
+        private int lastKey;
+
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            Object[] v = values;
+            int b = 0;
+            while(v[b] != null) {
+                b++;
+            }
+            base = b;
+            advance();
+        }
+
+        private void advance() {
+            Object[] v = values;
+            do {
+                next++;
+            } while(next < v.length && v[(base + next) & mask] == null);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < values.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<Integer, V> next() {
+            if(modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if(next >= values.length) {
+                throw new NoSuchElementException();
+            }
+            int slot = (base + next) & mask;
+            lastReturned = next;
+            lastKey = keys[slot];
+            V value = (V) values[slot];
+            advance();
+            final int key = lastKey;
+            return new AbstractMap.SimpleEntry<Integer, V>(key, value) {
+                @Override
+                public V setValue(V v) {
+                    Int2ObjectHashMap.this.put(key, v);
+                    return super.setValue(v);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if(lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            if(modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            Int2ObjectHashMap.this.remove(lastKey);
+            if(values[(base + lastReturned) & mask] != null) {
+                next = lastReturned;
+            }
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
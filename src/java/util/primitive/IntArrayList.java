@@ -0,0 +1,478 @@
+package java.util.primitive;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * @Author：zhuangfei
+ * @Description：元素直接存放在int[]中的可变长列表，相当于不装箱的ArrayList<Integer>。
+ *              每个元素只占4个字节，读写都不经过Integer.valueOf(int)。
+ *              需要和使用List<Integer>的代码交互时可以用boxed()取得一个视图，视图的修改会反映到本列表。
+ *              不是线程安全的
+ * @Date：11:40 2026/10/19
+ */
+public class IntArrayList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final int[] EMPTY_ELEMENTDATA = {};
+
+    /**
+     * 数组的最大长度，部分虚拟机会在数组中保留一些头信息
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private int[] elementData;
+
+    private int size;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个空列表
+     * @Date：11:42 2026/10/19
+     */
+    public IntArrayList() {
+        this.elementData = EMPTY_ELEMENTDATA;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个指定初始容量的空列表
+     * initialCapacity ：初始容量
+     * PS ：initialCapacity为负数时会抛出 IllegalArgumentException(非法参数异常)
+     * @Date：11:43 2026/10/19
+     */
+    public IntArrayList(int initialCapacity) {
+        if(initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        this.elementData = initialCapacity == 0 ? EMPTY_ELEMENTDATA : new int[initialCapacity];
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个包含values中所有元素的列表，会复制values
+     * values ：初始元素
+     * @Date：11:44 2026/10/19
+     */
+    public IntArrayList(int[] values) {
+        this.elementData = values.length == 0 ? EMPTY_ELEMENTDATA : values.clone();
+        this.size = values.length;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回元素个数
+     * @Date：11:45 2026/10/19
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：列表为空时返回true
+     * @Date：11:45 2026/10/19
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回index位置的元素
+     * PS ：index越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：11:46 2026/10/19
+     */
+    public int get(int index) {
+        rangeCheck(index);
+        return elementData[index];
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把index位置的元素替换为element，返回原来的元素
+     * PS ：index越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：11:47 2026/10/19
+     */
+    public int set(int index, int element) {
+        rangeCheck(index);
+        int old = elementData[index];
+        elementData[index] = element;
+        return old;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：在末尾添加一个元素
+     * @Date：11:48 2026/10/19
+     */
+    public void add(int element) {
+        if(size == elementData.length) {
+            grow(size + 1);
+        }
+        elementData[size++] = element;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：在index位置插入一个元素，原来index及之后的元素后移一位
+     * PS ：index小于0或大于size时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：11:49 2026/10/19
+     */
+    public void add(int index, int element) {
+        rangeCheckForAdd(index);
+        if(size == elementData.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elementData, index, elementData, index + 1, size - index);
+        elementData[index] = element;
+        size++;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：在末尾添加values中的所有元素
+     * @Date：11:50 2026/10/19
+     */
+    public void addAll(int[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：在末尾添加values[off, off + len)中的元素
+     * PS ：off和len不在数组范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：11:51 2026/10/19
+     */
+    public void addAll(int[] values, int off, int len) {
+        if(off < 0 || len < 0 || off > values.length - len) {
+            throw new IndexOutOfBoundsException("off " + off + ", len " + len + ", length " + values.length);
+        }
+        ensureCapacity(size + len);
+        System.arraycopy(values, off, elementData, size, len);
+        size += len;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：在末尾添加另一个列表的所有元素
+     * @Date：11:52 2026/10/19
+     */
+    public void addAll(IntArrayList other) {
+        addAll(other.elementData, 0, other.size);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除index位置的元素并返回，之后的元素前移一位
+     * PS ：index越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：11:53 2026/10/19
+     */
+    public int removeAt(int index) {
+        rangeCheck(index);
+        int old = elementData[index];
+        int numMoved = size - index - 1;
+        if(numMoved > 0) {
+            System.arraycopy(elementData, index + 1, elementData, index, numMoved);
+        }
+        size--;
+        return old;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除第一个等于value的元素，找到并删除时返回true
+     * @Date：11:54 2026/10/19
+     */
+    public boolean removeValue(int value) {
+        int index = indexOf(value);
+        if(index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回第一个等于value的元素的下标，没有时返回-1
+     * @Date：11:55 2026/10/19
+     */
+    public int indexOf(int value) {
+        int[] a = elementData;
+        for(int i = 0; i < size; i++) {
+            if(a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回最后一个等于value的元素的下标，没有时返回-1
+     * @Date：11:56 2026/10/19
+     */
+    public int lastIndexOf(int value) {
+        int[] a = elementData;
+        for(int i = size - 1; i >= 0; i--) {
+            if(a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：列表中有等于value的元素时返回true
+     * @Date：11:56 2026/10/19
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除所有元素，不释放数组
+     * @Date：11:57 2026/10/19
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：保证至少能放下minCapacity个元素而不需要扩容
+     * @Date：11:58 2026/10/19
+     */
+    public void ensureCapacity(int minCapacity) {
+        if(minCapacity > elementData.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把数组缩小到正好放下当前的元素
+     * @Date：11:58 2026/10/19
+     */
+    public void trimToSize() {
+        if(size < elementData.length) {
+            elementData = size == 0 ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回包含所有元素的新数组
+     * @Date：11:59 2026/10/19
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把元素按升序排序
+     * @Date：12:00 2026/10/19
+     */
+    public void sort() {
+        Arrays.sort(elementData, 0, size);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：按顺序对每个元素调用action
+     * @Date：12:00 2026/10/19
+     */
+    public void forEach(IntConsumer action) {
+        int[] a = elementData;
+        int n = size;
+        for(int i = 0; i < n; i++) {
+            action.accept(a[i]);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回按顺序遍历元素的IntStream，遍历期间不能修改列表
+     * @Date：12:01 2026/10/19
+     */
+    public IntStream stream() {
+        return Arrays.stream(elementData, 0, size);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回List<Integer>视图，读写都会转到本列表上，取出的元素经过Integer.valueOf(int)装箱。
+     *              视图不接受null元素
+     * @Date：12:02 2026/10/19
+     */
+    public List<Integer> boxed() {
+        return new BoxedView();
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：元素个数和顺序都相同时两个列表相等
+     * @Date：12:03 2026/10/19
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if(this == obj) {
+            return true;
+        }
+        if(!(obj instanceof IntArrayList)) {
+            return false;
+        }
+        IntArrayList other = (IntArrayList) obj;
+        if(size != other.size) {
+            return false;
+        }
+        int[] a = elementData;
+        int[] b = other.elementData;
+        for(int i = 0; i < size; i++) {
+            if(a[i] != b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：与内容相同的List<Integer>的hashCode相等
+     * @Date：12:04 2026/10/19
+     */
+    @Override
+    public int hashCode() {
+        int h = 1;
+        int[] a = elementData;
+        for(int i = 0; i < size; i++) {
+            h = 31 * h + Integer.hashCode(a[i]);
+        }
+        return h;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回[a, b, c]格式的字符串，与List<Integer>相同
+     * @Date：12:05 2026/10/19
+     */
+    @Override
+    public String toString() {
+        if(size == 0) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder(size * 4);
+        sb.append('[');
+        for(int i = 0; i < size; i++) {
+            if(i != 0) {
+                sb.append(", ");
+            }
+            sb.append(elementData[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：扩容到至少minCapacity，一般增加一半
+     * @Date：12:06 2026/10/19
+     */
+    private void grow(int minCapacity) {
+        if(minCapacity < 0) {
+            throw new OutOfMemoryError();
+        }
+        int oldCapacity = elementData.length;
+        int newCapacity = oldCapacity + (oldCapacity >> 1);
+        if(newCapacity < DEFAULT_CAPACITY) {
+            newCapacity = DEFAULT_CAPACITY;
+        }
+        if(newCapacity - minCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        if(newCapacity - MAX_ARRAY_SIZE > 0) {
+            newCapacity = minCapacity > MAX_ARRAY_SIZE ? Integer.MAX_VALUE : MAX_ARRAY_SIZE;
+        }
+        elementData = Arrays.copyOf(elementData, newCapacity);
+    }
+
+    private void rangeCheck(int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if(index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：boxed()返回的视图
+     * @Date：12:08 2026/10/19
+     */
+    private final class BoxedView extends AbstractList<Integer> implements RandomAccess {
+
+        @Override
+        public Integer get(int index) {
+            return IntArrayList.this.get(index);
+        }
+
+        @Override
+        public Integer set(int index, Integer element) {
+            return IntArrayList.this.set(index, element);
+        }
+
+        @Override
+        public void add(int index, Integer element) {
+            IntArrayList.this.add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public Integer remove(int index) {
+            modCount++;
+            return removeAt(index);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return o instanceof Integer ? IntArrayList.this.indexOf((Integer) o) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return o instanceof Integer ? IntArrayList.this.lastIndexOf((Integer) o) : -1;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            IntArrayList.this.clear();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
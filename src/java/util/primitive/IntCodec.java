@@ -0,0 +1,671 @@
+package java.util.primitive;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * @Author：zhuangfei
+ * @Description：int序列的压缩编码，在int[]和byte[]/ByteBuffer之间转换，所有多字节的量都是小端。
+ *              1. 变长编码(LEB128 varint)：每个字节存7位，最高位表示后面还有字节，0 ~ 127只占一个字节；
+ *                 有符号的数先做zigzag(0, -1, 1, -2 ... 映射为0, 1, 2, 3 ...)，绝对值小的负数也很短；
+ *                 有序的序列先做差分，只存相邻两个数的差。
+ *              2. 分块位压缩(frame of reference)：每BLOCK_SIZE个数一块，减去块内最小值后，
+ *                 用32 - Integer.numberOfLeadingZeros(块内最大的差)位存放每个数，位宽为0时整块只有块头。
+ *                 块格式：1字节位宽w，4字节最小值，然后是ceil(n * w / 32)个32位字，第i个数在第i * w位开始的w位中。
+ *                 差分的块在最小值之前多存4字节块内第一个数，位压缩的是块内其余的差。
+ *              差分按32位无符号数回绕计算，所以无序的输入也能正确还原，只是压缩率差一些。
+ *              解码时调用方需要知道元素个数
+ * @Date：16:30 2026/10/19
+ */
+public final class IntCodec {
+
+    /**
+     * 位压缩每块的元素个数
+     */
+    public static final int BLOCK_SIZE = 128;
+
+    private static final int PLAIN = 0;
+
+    private static final int ZIGZAG = 1;
+
+    private static final int DELTA = 2;
+
+    private IntCodec() {}
+
+    /**
+     * @Author：zhuangfei
+     * @Description：zigzag编码，把有符号数映射为无符号数：0 -> 0，-1 -> 1，1 -> 2，-2 -> 3 ...
+     * @Date：16:32 2026/10/19
+     */
+    public static int zigzagEncode(int n) {
+        return (n << 1) ^ (n >> 31);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：zigzagEncode的逆运算
+     * @Date：16:32 2026/10/19
+     */
+    public static int zigzagDecode(int n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把value当作无符号数时varint编码的字节数，1 ~ 5
+     * @Date：16:33 2026/10/19
+     */
+    public static int varintLength(int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：len个数varint编码后最多占用的字节数
+     * @Date：16:34 2026/10/19
+     */
+    public static int maxVarintBytes(int len) {
+        return len * 5;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把value当作无符号数，varint编码后写到buf的当前位置
+     * @Date：16:35 2026/10/19
+     */
+    public static void writeVarint(ByteBuffer buf, int value) {
+        while((value & ~0x7F) != 0) {
+            buf.put((byte) (value | 0x80));
+            value >>>= 7;
+        }
+        buf.put((byte) value);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：从buf的当前位置读取一个varint
+     * PS ：超过5个字节时会抛出 IllegalArgumentException(非法参数异常)
+     * @Date：16:36 2026/10/19
+     */
+    public static int readVarint(ByteBuffer buf) {
+        int result = 0;
+        for(int shift = 0; shift < 35; shift += 7) {
+            byte b = buf.get();
+            result |= (b & 0x7F) << shift;
+            if(b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[off, off + len)当作无符号数逐个varint编码，写到dst[dstOff, ...)，返回写入的字节数
+     * PS ：dst放不下时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：16:38 2026/10/19
+     */
+    public static int encodeVarints(int[] src, int off, int len, byte[] dst, int dstOff) {
+        return encodeVarints(src, off, len, dst, dstOff, PLAIN);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：解码len个varint到dst[dstOff, dstOff + len)，返回读取的字节数
+     * PS ：数据不完整时会抛出 IndexOutOfBoundsException(下标越界异常)，格式错误时会抛出 IllegalArgumentException(非法参数异常)
+     * @Date：16:39 2026/10/19
+     */
+    public static int decodeVarints(byte[] src, int srcOff, int[] dst, int dstOff, int len) {
+        return decodeVarints(src, srcOff, dst, dstOff, len, PLAIN);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[off, off + len)先zigzag再varint编码，适合绝对值小的有符号数，返回写入的字节数
+     * @Date：16:40 2026/10/19
+     */
+    public static int encodeZigzagVarints(int[] src, int off, int len, byte[] dst, int dstOff) {
+        return encodeVarints(src, off, len, dst, dstOff, ZIGZAG);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：encodeZigzagVarints的逆运算，返回读取的字节数
+     * @Date：16:40 2026/10/19
+     */
+    public static int decodeZigzagVarints(byte[] src, int srcOff, int[] dst, int dstOff, int len) {
+        return decodeVarints(src, srcOff, dst, dstOff, len, ZIGZAG);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：对升序的src[off, off + len)存相邻两数的差(第一个数与0的差)，再varint编码，返回写入的字节数
+     * @Date：16:41 2026/10/19
+     */
+    public static int encodeDeltaVarints(int[] src, int off, int len, byte[] dst, int dstOff) {
+        return encodeVarints(src, off, len, dst, dstOff, DELTA);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：encodeDeltaVarints的逆运算，返回读取的字节数
+     * @Date：16:42 2026/10/19
+     */
+    public static int decodeDeltaVarints(byte[] src, int srcOff, int[] dst, int dstOff, int len) {
+        return decodeVarints(src, srcOff, dst, dstOff, len, DELTA);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和encodeVarints(int[], int, int, byte[], int)相同，写到buf的当前位置
+     * PS ：buf剩余空间不足时会抛出 BufferOverflowException
+     * @Date：16:43 2026/10/19
+     */
+    public static int encodeVarints(int[] src, int off, int len, ByteBuffer buf) {
+        return encodeVarints(src, off, len, buf, PLAIN);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和decodeVarints(byte[], int, int[], int, int)相同，从buf的当前位置读取
+     * PS ：数据不完整时会抛出 BufferUnderflowException
+     * @Date：16:44 2026/10/19
+     */
+    public static int decodeVarints(ByteBuffer buf, int[] dst, int dstOff, int len) {
+        return decodeVarints(buf, dst, dstOff, len, PLAIN);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和encodeZigzagVarints(int[], int, int, byte[], int)相同，写到buf的当前位置
+     * @Date：16:45 2026/10/19
+     */
+    public static int encodeZigzagVarints(int[] src, int off, int len, ByteBuffer buf) {
+        return encodeVarints(src, off, len, buf, ZIGZAG);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和decodeZigzagVarints(byte[], int, int[], int, int)相同，从buf的当前位置读取
+     * @Date：16:45 2026/10/19
+     */
+    public static int decodeZigzagVarints(ByteBuffer buf, int[] dst, int dstOff, int len) {
+        return decodeVarints(buf, dst, dstOff, len, ZIGZAG);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和encodeDeltaVarints(int[], int, int, byte[], int)相同，写到buf的当前位置
+     * @Date：16:46 2026/10/19
+     */
+    public static int encodeDeltaVarints(int[] src, int off, int len, ByteBuffer buf) {
+        return encodeVarints(src, off, len, buf, DELTA);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和decodeDeltaVarints(byte[], int, int[], int, int)相同，从buf的当前位置读取
+     * @Date：16:46 2026/10/19
+     */
+    public static int decodeDeltaVarints(ByteBuffer buf, int[] dst, int dstOff, int len) {
+        return decodeVarints(buf, dst, dstOff, len, DELTA);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：len个数分块位压缩后最多占用的字节数
+     * @Date：16:47 2026/10/19
+     */
+    public static int maxPackedBytes(int len) {
+        int blocks = (len + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        return blocks * 9 + len * 4;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[off, off + len)分块位压缩，写到dst[dstOff, ...)，返回写入的字节数
+     * PS ：dst放不下时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：16:48 2026/10/19
+     */
+    public static int packBlocks(int[] src, int off, int len, byte[] dst, int dstOff) {
+        return packBlocks(src, off, len, dst, dstOff, false);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：解码len个packBlocks压缩的数到dst[dstOff, dstOff + len)，返回读取的字节数
+     * PS ：数据不完整时会抛出 IndexOutOfBoundsException(下标越界异常)，位宽错误时会抛出 IllegalArgumentException(非法参数异常)
+     * @Date：16:49 2026/10/19
+     */
+    public static int unpackBlocks(byte[] src, int srcOff, int[] dst, int dstOff, int len) {
+        return unpackBlocks(src, srcOff, src.length, dst, dstOff, len, false);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把升序的src[off, off + len)差分后分块位压缩，连续的id差都是1，位宽为0，每块只有块头。返回写入的字节数
+     * @Date：16:50 2026/10/19
+     */
+    public static int packDeltaBlocks(int[] src, int off, int len, byte[] dst, int dstOff) {
+        return packBlocks(src, off, len, dst, dstOff, true);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：packDeltaBlocks的逆运算，返回读取的字节数
+     * @Date：16:51 2026/10/19
+     */
+    public static int unpackDeltaBlocks(byte[] src, int srcOff, int[] dst, int dstOff, int len) {
+        return unpackBlocks(src, srcOff, src.length, dst, dstOff, len, true);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和packBlocks(int[], int, int, byte[], int)相同，写到buf的当前位置
+     * PS ：buf剩余空间不足时会抛出 BufferOverflowException
+     * @Date：16:52 2026/10/19
+     */
+    public static int packBlocks(int[] src, int off, int len, ByteBuffer buf) {
+        return packBlocks(src, off, len, buf, false);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和unpackBlocks(byte[], int, int[], int, int)相同，从buf的当前位置读取
+     * PS ：数据不完整时会抛出 BufferUnderflowException
+     * @Date：16:52 2026/10/19
+     */
+    public static int unpackBlocks(ByteBuffer buf, int[] dst, int dstOff, int len) {
+        return unpackBlocks(buf, dst, dstOff, len, false);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和packDeltaBlocks(int[], int, int, byte[], int)相同，写到buf的当前位置
+     * @Date：16:53 2026/10/19
+     */
+    public static int packDeltaBlocks(int[] src, int off, int len, ByteBuffer buf) {
+        return packBlocks(src, off, len, buf, true);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和unpackDeltaBlocks(byte[], int, int[], int, int)相同，从buf的当前位置读取
+     * @Date：16:53 2026/10/19
+     */
+    public static int unpackDeltaBlocks(ByteBuffer buf, int[] dst, int dstOff, int len) {
+        return unpackBlocks(buf, dst, dstOff, len, true);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：varint编码的公共实现。先用numberOfLeadingZeros算出字节数，
+     *              从最后一个字节往前穿透switch写入，每个字节都带继续位，最后去掉末字节的继续位，循环里只有一次跳转
+     * @Date：16:55 2026/10/19
+     */
+    @SuppressWarnings("fallthrough")
+    private static int encodeVarints(int[] src, int off, int len, byte[] dst, int dstOff, int mode) {
+        checkRange(src.length, off, len);
+        if(dstOff < 0 || dstOff > dst.length) {
+            throw new IndexOutOfBoundsException("dstOff " + dstOff + ", length " + dst.length);
+        }
+        int p = dstOff;
+        int prev = 0;
+        for(int i = off, end = off + len; i < end; i++) {
+            int v = src[i];
+            if(mode == ZIGZAG) {
+                v = zigzagEncode(v);
+            } else if(mode == DELTA) {
+                int d = v - prev;
+                prev = v;
+                v = d;
+            }
+            int n = varintLength(v);
+            if(p > dst.length - n) {
+                throw new IndexOutOfBoundsException("dst too small at element " + (i - off));
+            }
+            switch(n) {
+                case 5:
+                    dst[p + 4] = (byte) ((v >>> 28) | 0x80);
+                    // fall through
+                case 4:
+                    dst[p + 3] = (byte) ((v >>> 21) | 0x80);
+                    // fall through
+                case 3:
+                    dst[p + 2] = (byte) ((v >>> 14) | 0x80);
+                    // fall through
+                case 2:
+                    dst[p + 1] = (byte) ((v >>> 7) | 0x80);
+                    // fall through
+                default:
+                    dst[p] = (byte) (v | 0x80);
+            }
+            p += n;
+            dst[p - 1] &= 0x7F;
+        }
+        return p - dstOff;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：varint解码的公共实现，展开成5个字节的判断，常见的1、2字节情况最先返回
+     * @Date：16:58 2026/10/19
+     */
+    private static int decodeVarints(byte[] src, int srcOff, int[] dst, int dstOff, int len, int mode) {
+        checkRange(dst.length, dstOff, len);
+        int p = srcOff;
+        int prev = 0;
+        for(int i = dstOff, end = dstOff + len; i < end; i++) {
+            int v;
+            int b = src[p++];
+            if(b >= 0) {
+                v = b;
+            } else {
+                v = b & 0x7F;
+                if((b = src[p++]) >= 0) {
+                    v |= b << 7;
+                } else {
+                    v |= (b & 0x7F) << 7;
+                    if((b = src[p++]) >= 0) {
+                        v |= b << 14;
+                    } else {
+                        v |= (b & 0x7F) << 14;
+                        if((b = src[p++]) >= 0) {
+                            v |= b << 21;
+                        } else {
+                            v |= (b & 0x7F) << 21;
+                            b = src[p++];
+                            if(b < 0) {
+                                throw new IllegalArgumentException("Malformed varint at " + (p - 1));
+                            }
+                            v |= b << 28;
+                        }
+                    }
+                }
+            }
+            if(mode == ZIGZAG) {
+                v = zigzagDecode(v);
+            } else if(mode == DELTA) {
+                v += prev;
+                prev = v;
+            }
+            dst[i] = v;
+        }
+        return p - srcOff;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：ByteBuffer有底层数组且剩余空间一定够用时直接在数组上编码，否则逐个字节写入
+     * @Date：17:00 2026/10/19
+     */
+    private static int encodeVarints(int[] src, int off, int len, ByteBuffer buf, int mode) {
+        if(buf.hasArray() && buf.remaining() >= 5L * len) {
+            int n = encodeVarints(src, off, len, buf.array(), buf.arrayOffset() + buf.position(), mode);
+            buf.position(buf.position() + n);
+            return n;
+        }
+        checkRange(src.length, off, len);
+        int start = buf.position();
+        int prev = 0;
+        for(int i = off, end = off + len; i < end; i++) {
+            int v = src[i];
+            if(mode == ZIGZAG) {
+                v = zigzagEncode(v);
+            } else if(mode == DELTA) {
+                int d = v - prev;
+                prev = v;
+                v = d;
+            }
+            writeVarint(buf, v);
+        }
+        return buf.position() - start;
+    }
+
+    private static int decodeVarints(ByteBuffer buf, int[] dst, int dstOff, int len, int mode) {
+        checkRange(dst.length, dstOff, len);
+        int start = buf.position();
+        int prev = 0;
+        for(int i = dstOff, end = dstOff + len; i < end; i++) {
+            int v = readVarint(buf);
+            if(mode == ZIGZAG) {
+                v = zigzagDecode(v);
+            } else if(mode == DELTA) {
+                v += prev;
+                prev = v;
+            }
+            dst[i] = v;
+        }
+        return buf.position() - start;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：分块位压缩的公共实现。delta为true时每块先存第一个数，再对块内其余的差做位压缩
+     * @Date：17:05 2026/10/19
+     */
+    private static int packBlocks(int[] src, int off, int len, byte[] dst, int dstOff, boolean delta) {
+        checkRange(src.length, off, len);
+        int[] block = new int[BLOCK_SIZE];
+        int p = dstOff;
+        for(int b = off, end = off + len; b < end; b += BLOCK_SIZE) {
+            int n = Math.min(BLOCK_SIZE, end - b);
+            int base = 0;
+            int count = n;
+            if(delta) {
+                base = src[b];
+                count = n - 1;
+                for(int i = 0; i < count; i++) {
+                    block[i] = src[b + i + 1] - src[b + i];
+                }
+            } else {
+                System.arraycopy(src, b, block, 0, n);
+            }
+            int min = 0;
+            int width = 0;
+            if(count > 0) {
+                min = block[0];
+                for(int i = 1; i < count; i++) {
+                    min = Math.min(min, block[i]);
+                }
+                // 所有差按位或，位宽与最大的差相同，不需要比较
+                int bits = 0;
+                for(int i = 0; i < count; i++) {
+                    block[i] -= min;
+                    bits |= block[i];
+                }
+                width = 32 - Integer.numberOfLeadingZeros(bits);
+            }
+            int words = (count * width + 31) >>> 5;
+            int size = (delta ? 9 : 5) + words * 4;
+            if(p < 0 || p > dst.length - size) {
+                throw new IndexOutOfBoundsException("dst too small at block " + (b - off) / BLOCK_SIZE);
+            }
+            dst[p++] = (byte) width;
+            if(delta) {
+                putInt(dst, p, base);
+                p += 4;
+            }
+            putInt(dst, p, min);
+            p += 4;
+            p = pack(block, count, width, dst, p);
+        }
+        return p - dstOff;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把u[0, count)的低width位依次拼接成小端的32位字写到dst[p, ...)，返回写完后的位置
+     * @Date：17:08 2026/10/19
+     */
+    private static int pack(int[] u, int count, int width, byte[] dst, int p) {
+        if(width == 0) {
+            return p;
+        }
+        long acc = 0;
+        int bits = 0;
+        for(int i = 0; i < count; i++) {
+            acc |= (u[i] & 0xFFFFFFFFL) << bits;
+            bits += width;
+            if(bits >= 32) {
+                putInt(dst, p, (int) acc);
+                p += 4;
+                acc >>>= 32;
+                bits -= 32;
+            }
+        }
+        if(bits > 0) {
+            putInt(dst, p, (int) acc);
+            p += 4;
+        }
+        return p;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：分块位压缩解码的公共实现
+     * @Date：17:10 2026/10/19
+     */
+    private static int unpackBlocks(byte[] src, int srcOff, int srcEnd, int[] dst, int dstOff, int len, boolean delta) {
+        checkRange(dst.length, dstOff, len);
+        int header = delta ? 9 : 5;
+        // 多留一个0，取第i个数时总是读相邻的两个字，不需要判断是否到了末尾
+        int[] words = new int[BLOCK_SIZE + 1];
+        int p = srcOff;
+        for(int b = dstOff, end = dstOff + len; b < end; b += BLOCK_SIZE) {
+            int n = Math.min(BLOCK_SIZE, end - b);
+            if(p < 0 || p > srcEnd - header) {
+                throw new IndexOutOfBoundsException("Truncated block at " + p);
+            }
+            int width = src[p++];
+            if(width < 0 || width > 32) {
+                throw new IllegalArgumentException("Bad bit width " + width + " at " + (p - 1));
+            }
+            int base = 0;
+            if(delta) {
+                base = getInt(src, p);
+                p += 4;
+            }
+            int min = getInt(src, p);
+            p += 4;
+            int count = delta ? n - 1 : n;
+            int w = (count * width + 31) >>> 5;
+            if(p > srcEnd - 4 * w) {
+                throw new IndexOutOfBoundsException("Truncated block at " + p);
+            }
+            for(int k = 0; k < w; k++) {
+                words[k] = getInt(src, p + 4 * k);
+            }
+            words[w] = 0;
+            p += 4 * w;
+            unpack(words, count, width, min, delta, base, dst, b);
+        }
+        return p - srcOff;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：从words中取出count个width位的数，加上min写到dst[d, ...)；
+     *              delta为true时dst[d]是base，后面依次累加。取数没有分支：把相邻两个字拼成long后移位取掩码
+     * @Date：17:12 2026/10/19
+     */
+    private static void unpack(int[] words, int count, int width, int min, boolean delta, int base, int[] dst, int d) {
+        int out = d;
+        if(delta) {
+            dst[out++] = base;
+        }
+        if(width == 0) {
+            if(delta) {
+                int v = base;
+                for(int i = 0; i < count; i++) {
+                    v += min;
+                    dst[out++] = v;
+                }
+            } else {
+                Arrays.fill(dst, out, out + count, min);
+            }
+            return;
+        }
+        long mask = (1L << width) - 1;
+        int bit = 0;
+        for(int i = 0; i < count; i++, bit += width) {
+            int k = bit >>> 5;
+            long two = (words[k] & 0xFFFFFFFFL) | ((long) words[k + 1] << 32);
+            dst[out + i] = (int) ((two >>> (bit & 31)) & mask) + min;
+        }
+        if(delta) {
+            // 前缀和还原差分
+            int v = base;
+            for(int i = out, e = out + count; i < e; i++) {
+                v += dst[i];
+                dst[i] = v;
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：先压缩到临时数组再整体写入buf
+     * @Date：17:15 2026/10/19
+     */
+    private static int packBlocks(int[] src, int off, int len, ByteBuffer buf, boolean delta) {
+        byte[] tmp = new byte[maxPackedBytes(len)];
+        int n = packBlocks(src, off, len, tmp, 0, delta);
+        buf.put(tmp, 0, n);
+        return n;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：ByteBuffer有底层数组时直接在数组的[position, limit)上解码，否则逐块读取块头，再把块的数据整体读到临时数组中解码
+     * @Date：17:17 2026/10/19
+     */
+    private static int unpackBlocks(ByteBuffer buf, int[] dst, int dstOff, int len, boolean delta) {
+        if(buf.hasArray()) {
+            checkRange(dst.length, dstOff, len);
+            int start = buf.arrayOffset() + buf.position();
+            int n;
+            try {
+                n = unpackBlocks(buf.array(), start, buf.arrayOffset() + buf.limit(), dst, dstOff, len, delta);
+            } catch(IndexOutOfBoundsException e) {
+                throw new java.nio.BufferUnderflowException();
+            }
+            buf.position(buf.position() + n);
+            return n;
+        }
+        checkRange(dst.length, dstOff, len);
+        int start = buf.position();
+        int header = delta ? 9 : 5;
+        byte[] tmp = new byte[header + 4 * BLOCK_SIZE];
+        for(int b = dstOff, end = dstOff + len; b < end; b += BLOCK_SIZE) {
+            int n = Math.min(BLOCK_SIZE, end - b);
+            buf.get(tmp, 0, header);
+            int width = tmp[0];
+            if(width < 0 || width > 32) {
+                throw new IllegalArgumentException("Bad bit width " + width);
+            }
+            int count = delta ? n - 1 : n;
+            int bytes = 4 * ((count * width + 31) >>> 5);
+            buf.get(tmp, header, bytes);
+            unpackBlocks(tmp, 0, header + bytes, dst, b, n, delta);
+        }
+        return buf.position() - start;
+    }
+
+    private static void putInt(byte[] a, int p, int v) {
+        a[p] = (byte) v;
+        a[p + 1] = (byte) (v >>> 8);
+        a[p + 2] = (byte) (v >>> 16);
+        a[p + 3] = (byte) (v >>> 24);
+    }
+
+    private static int getInt(byte[] a, int p) {
+        return (a[p] & 0xFF) | (a[p + 1] & 0xFF) << 8 | (a[p + 2] & 0xFF) << 16 | a[p + 3] << 24;
+    }
+
+    private static void checkRange(int length, int off, int len) {
+        if(off < 0 || len < 0 || off > length - len) {
+            throw new IndexOutOfBoundsException("off " + off + ", len " + len + ", length " + length);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package java.util.primitive;
+
+/**
+ * @Author：zhuangfei
+ * @Description：固定除数的有符号除法，结果与int的 / 和 % 运算完全相同(向0取整，Integer.MIN_VALUE / -1 仍为Integer.MIN_VALUE)。
+ *              设a = |d|，l = ceil(log2(a))，m = floor(2^(31 + l) / a) + 1 (不超过2^32)，则对所有int n有
+ *              trunc(n / a) = ((n * m) >> (31 + l)) - (n >> 31)，乘积的绝对值不超过2^63，用long计算不会溢出。
+ *              除数为负时再把商取反。每次相除只需要一次乘法，没有除法指令。
+ *              对象不可变，可以在多个线程中共用
+ * @Date：17:45 2026/10/19
+ */
+public final class IntDivisor {
+
+    private final int divisor;
+
+    private final long magic;
+
+    private final int shift;
+
+    /**
+     * 除数为负时是-1，否则是0，用于不带分支地取反
+     */
+    private final int sign;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：为除数divisor预先计算乘数
+     * divisor ：除数
+     * PS ：divisor为0时会抛出 ArithmeticException(算术异常)
+     * @Date：17:47 2026/10/19
+     */
+    public IntDivisor(int divisor) {
+        if(divisor == 0) {
+            throw new ArithmeticException("/ by zero");
+        }
+        long a = Math.abs((long) divisor);
+        int l = 64 - Long.numberOfLeadingZeros(a - 1);
+        this.divisor = divisor;
+        this.shift = 31 + l;
+        this.magic = (1L << shift) / a + 1;
+        this.sign = divisor >> 31;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回除数
+     * @Date：17:48 2026/10/19
+     */
+    public int getDivisor() {
+        return divisor;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回dividend / 除数
+     * dividend ：被除数
+     * @Date：17:49 2026/10/19
+     */
+    public int divide(int dividend) {
+        int q = (int) ((dividend * magic) >> shift) - (dividend >> 31);
+        return (q ^ sign) - sign;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回dividend % 除数，符号与被除数相同
+     * dividend ：被除数
+     * @Date：17:50 2026/10/19
+     */
+    public int remainder(int dividend) {
+        return dividend - divide(dividend) * divisor;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[srcOff, srcOff + len)中的每个数除以除数，商写到dst[dstOff, dstOff + len)，
+     *              对src和dst的要求与UnsignedIntDivisor的同名方法相同
+     * PS ：范围越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：17:51 2026/10/19
+     */
+    public void divide(int[] src, int srcOff, int[] dst, int dstOff, int len) {
+        UnsignedIntDivisor.checkRange(src, srcOff, dst, dstOff, len);
+        long m = magic;
+        int s = shift;
+        int g = sign;
+        for(int i = 0; i < len; i++) {
+            int n = src[srcOff + i];
+            int q = (int) ((n * m) >> s) - (n >> 31);
+            dst[dstOff + i] = (q ^ g) - g;
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[srcOff, srcOff + len)中的每个数对除数取余，余数写到dst[dstOff, dstOff + len)，对src和dst的要求与divide相同
+     * PS ：范围越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：17:52 2026/10/19
+     */
+    public void remainder(int[] src, int srcOff, int[] dst, int dstOff, int len) {
+        UnsignedIntDivisor.checkRange(src, srcOff, dst, dstOff, len);
+        long m = magic;
+        int s = shift;
+        int g = sign;
+        int d = divisor;
+        for(int i = 0; i < len; i++) {
+            int n = src[srcOff + i];
+            int q = (int) ((n * m) >> s) - (n >> 31);
+            dst[dstOff + i] = n - ((q ^ g) - g) * d;
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof IntDivisor && ((IntDivisor) obj).divisor == divisor;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(divisor);
+    }
+
+    @Override
+    public String toString() {
+        return "IntDivisor[" + divisor + "]";
+    }
+}
@@ -0,0 +1,480 @@
+package java.util.primitive;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * @Author：zhuangfei
+ * @Description：开放寻址(线性探测)的int集合，相当于不装箱的HashSet<Integer>。
+ *              元素直接存放在一个int[]中，0表示空槽，0本身是否在集合中用单独的字段记录；
+ *              槽位由IntHashing.mix混合后的哈希值决定。删除时把后面的元素前移补上空位，不留删除标记，
+ *              所以频繁增删也不会让查找变慢。需要Set<Integer>时可以用boxed()取得视图。
+ *              不是线程安全的
+ * @Date：12:10 2026/10/19
+ */
+public class IntHashSet {
+
+    private final float loadFactor;
+
+    private int[] keys;
+
+    private int mask;
+
+    private int threshold;
+
+    /**
+     * 除0以外的元素个数
+     */
+    private int size;
+
+    private boolean containsZero;
+
+    private int modCount;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个空集合
+     * @Date：12:12 2026/10/19
+     */
+    public IntHashSet() {
+        this(16);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个预计存放expected个元素的空集合，在元素个数达到expected之前不会扩容
+     * expected ：预计的元素个数
+     * PS ：expected为负数或过大时会抛出 IllegalArgumentException(非法参数异常)
+     * @Date：12:13 2026/10/19
+     */
+    public IntHashSet(int expected) {
+        this(expected, IntHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个空集合并指定装载因子，装载因子越小查找越快，占用的内存越多
+     * expected ：预计的元素个数
+     * loadFactor ：装载因子，在(0, 1)之间
+     * PS ：参数不合法时会抛出 IllegalArgumentException(非法参数异常)
+     * @Date：12:14 2026/10/19
+     */
+    public IntHashSet(int expected, float loadFactor) {
+        this.loadFactor = loadFactor;
+        allocate(IntHashing.capacityFor(expected, loadFactor));
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回元素个数
+     * @Date：12:15 2026/10/19
+     */
+    public int size() {
+        return containsZero ? size + 1 : size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：集合为空时返回true
+     * @Date：12:15 2026/10/19
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：集合中有value时返回true
+     * @Date：12:16 2026/10/19
+     */
+    public boolean contains(int value) {
+        if(value == 0) {
+            return containsZero;
+        }
+        int[] k = keys;
+        int m = mask;
+        for(int i = IntHashing.mix(value) & m; ; i = (i + 1) & m) {
+            int cur = k[i];
+            if(cur == value) {
+                return true;
+            }
+            if(cur == 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：添加value，集合中原来没有value时返回true
+     * @Date：12:17 2026/10/19
+     */
+    public boolean add(int value) {
+        if(value == 0) {
+            if(containsZero) {
+                return false;
+            }
+            containsZero = true;
+            modCount++;
+            return true;
+        }
+        int[] k = keys;
+        int m = mask;
+        int i = IntHashing.mix(value) & m;
+        for(int cur; (cur = k[i]) != 0; i = (i + 1) & m) {
+            if(cur == value) {
+                return false;
+            }
+        }
+        k[i] = value;
+        modCount++;
+        if(++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：添加values中的所有元素，返回新加入的个数
+     * @Date：12:18 2026/10/19
+     */
+    public int addAll(int[] values) {
+        int added = 0;
+        for(int v : values) {
+            if(add(v)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除value，集合中原来有value时返回true
+     * @Date：12:19 2026/10/19
+     */
+    public boolean remove(int value) {
+        if(value == 0) {
+            if(!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            modCount++;
+            return true;
+        }
+        int[] k = keys;
+        int m = mask;
+        for(int i = IntHashing.mix(value) & m; ; i = (i + 1) & m) {
+            int cur = k[i];
+            if(cur == value) {
+                removeSlot(i);
+                return true;
+            }
+            if(cur == 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除所有元素，不缩小槽位数组
+     * @Date：12:20 2026/10/19
+     */
+    public void clear() {
+        if(size() > 0) {
+            Arrays.fill(keys, 0);
+            size = 0;
+            containsZero = false;
+            modCount++;
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：对每个元素调用action，顺序不确定
+     * @Date：12:21 2026/10/19
+     */
+    public void forEach(IntConsumer action) {
+        if(containsZero) {
+            action.accept(0);
+        }
+        for(int v : keys) {
+            if(v != 0) {
+                action.accept(v);
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回包含所有元素的新数组，顺序不确定
+     * @Date：12:22 2026/10/19
+     */
+    public int[] toArray() {
+        int[] result = new int[size()];
+        int j = 0;
+        if(containsZero) {
+            result[j++] = 0;
+        }
+        for(int v : keys) {
+            if(v != 0) {
+                result[j++] = v;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回不装箱的迭代器，迭代器的remove会删除上一次返回的元素
+     * @Date：12:23 2026/10/19
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new Itr();
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回Set<Integer>视图，读写都会转到本集合上。视图不接受null元素
+     * @Date：12:24 2026/10/19
+     */
+    public Set<Integer> boxed() {
+        return new BoxedView();
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：元素完全相同时两个集合相等
+     * @Date：12:25 2026/10/19
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if(this == obj) {
+            return true;
+        }
+        if(!(obj instanceof IntHashSet)) {
+            return false;
+        }
+        IntHashSet other = (IntHashSet) obj;
+        if(other.size() != size() || other.containsZero != containsZero) {
+            return false;
+        }
+        for(int v : keys) {
+            if(v != 0 && !other.contains(v)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：与内容相同的Set<Integer>的hashCode相等
+     * @Date：12:26 2026/10/19
+     */
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for(int v : keys) {
+            h += Integer.hashCode(v);
+        }
+        return h;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回[a, b, c]格式的字符串
+     * @Date：12:27 2026/10/19
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        threshold = IntHashing.threshold(capacity, loadFactor);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：换成capacity个槽位的数组，重新放入所有元素
+     * @Date：12:28 2026/10/19
+     */
+    private void rehash(int capacity) {
+        if(capacity > IntHashing.MAX_CAPACITY || capacity <= 0) {
+            throw new IllegalStateException("Set too large: " + size());
+        }
+        int[] old = keys;
+        allocate(capacity);
+        int[] k = keys;
+        int m = mask;
+        for(int v : old) {
+            if(v != 0) {
+                int i = IntHashing.mix(v) & m;
+                while(k[i] != 0) {
+                    i = (i + 1) & m;
+                }
+                k[i] = v;
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：清空slot，并把后面同一串中可以前移的元素移到空位上，保证线性探测的查找不会提前停下。
+     *              元素的理想位置ideal在空位gap和它当前位置j之间(循环意义下)时不能移动
+     * @Date：12:30 2026/10/19
+     */
+    private void removeSlot(int slot) {
+        int[] k = keys;
+        int m = mask;
+        int gap = slot;
+        for(int j = (gap + 1) & m; k[j] != 0; j = (j + 1) & m) {
+            int ideal = IntHashing.mix(k[j]) & m;
+            if(((j - ideal) & m) >= ((j - gap) & m)) {
+                k[gap] = k[j];
+                gap = j;
+            }
+        }
+        k[gap] = 0;
+        size--;
+        modCount++;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：先返回0(如果有)，再从一个空槽之后开始，循环地按槽位顺序返回其他元素。
+     *              删除时元素只会在同一串中前移，而任何一串都不会跨过这个空槽，
+     *              所以前移的元素要么已经返回过，要么移到了刚删除的位置，从那里重新开始即可，每个元素恰好返回一次
+     * @Date：12:32 2026/10/19
+     */
+    private final class Itr implements PrimitiveIterator.OfInt {
+
+        /**
+         * 起点，一个空槽的下标。元素个数不超过threshold，至少有一个空槽
+         */
+        private final int base;
+
+        private boolean zeroPending = containsZero;
+
+        /**
+         * 下一个元素相对base的位置，等于keys.length时遍历结束
+         */
+        private int next;
+
+        /**
+         * 上一次返回的元素相对base的位置，-1表示0，-2表示没有
+         */
+        private int lastReturned = -2;
+
+        private int lastValue;
+
+        private int expectedModCount = modCount;
+
+        Itr() {
+            int[] k = keys;
+            int b = 0;
+            while(k[b] != 0) {
+                b++;
+            }
+            base = b;
+            advance();
+        }
+
+        private void advance() {
+            int[] k = keys;
+            do {
+                next++;
+            } while(next < k.length && k[(base + next) & mask] == 0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return zeroPending || next < keys.length;
+        }
+
+        @Override
+        public int nextInt() {
+            if(modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if(zeroPending) {
+                zeroPending = false;
+                lastReturned = -1;
+                lastValue = 0;
+                return 0;
+            }
+            if(next >= keys.length) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            lastValue = keys[(base + next) & mask];
+            advance();
+            return lastValue;
+        }
+
+        @Override
+        public void remove() {
+            if(lastReturned == -2) {
+                throw new IllegalStateException();
+            }
+            if(modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            IntHashSet.this.remove(lastValue);
+            if(lastReturned >= 0 && keys[(base + lastReturned) & mask] != 0) {
+                // 后面还没返回的元素前移到了刚删除的位置
+                next = lastReturned;
+            }
+            lastReturned = -2;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：boxed()返回的视图
+     * @Date：12:35 2026/10/19
+     */
+    private final class BoxedView extends AbstractSet<Integer> {
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer && IntHashSet.this.contains((Integer) o);
+        }
+
+        @Override
+        public boolean add(Integer value) {
+            return IntHashSet.this.add(value);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return o instanceof Integer && IntHashSet.this.remove((Integer) o);
+        }
+
+        @Override
+        public void clear() {
+            IntHashSet.this.clear();
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt iterator() {
+            return IntHashSet.this.iterator();
+        }
+
+        @Override
+        public int size() {
+            return IntHashSet.this.size();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package java.util.primitive;
+
+/**
+ * @Author：zhuangfei
+ * @Description：本包中开放寻址哈希表共用的哈希和容量计算。
+ *              Integer.hashCode(int)直接返回值本身，连续的键会落在连续的槽位上，
+ *              线性探测时容易聚成一片，所以先把高位和低位充分混合再取掩码
+ * @Date：11:30 2026/10/19
+ */
+final class IntHashing {
+
+    /**
+     * 默认的装载因子
+     */
+    static final float DEFAULT_LOAD_FACTOR = 0.6f;
+
+    /**
+     * 槽位数组的最大长度
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private IntHashing() {}
+
+    /**
+     * @Author：zhuangfei
+     * @Description：混合后的哈希码，即Integer.mixHash(int)
+     * key ：键
+     * @Date：11:32 2026/10/19
+     */
+    static int mix(int key) {
+        return Integer.mixHash(key);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回能放下expected个元素且不超过装载因子的槽位数，总是2的幂
+     * expected ：预计的元素个数
+     * loadFactor ：装载因子
+     * PS ：参数不合法时会抛出 IllegalArgumentException(非法参数异常)
+     * @Date：11:35 2026/10/19
+     */
+    static int capacityFor(int expected, float loadFactor) {
+        checkLoadFactor(loadFactor);
+        if(expected < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + expected);
+        }
+        long needed = (long) Math.ceil(expected / (double) loadFactor);
+        if(needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity too large: " + expected);
+        }
+        return Math.max(2, Integer.highestOneBit((int) Math.max(needed, 1) * 2 - 1));
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：检查装载因子在(0, 1)之间，开放寻址至少要留一个空槽
+     * @Date：11:37 2026/10/19
+     */
+    static void checkLoadFactor(float loadFactor) {
+        if(!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：槽位数为capacity时允许的最大元素个数
+     * @Date：11:38 2026/10/19
+     */
+    static int threshold(int capacity, float loadFactor) {
+        return Math.min(capacity - 1, (int) (capacity * (double) loadFactor));
+    }
+}
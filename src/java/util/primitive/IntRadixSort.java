@@ -0,0 +1,477 @@
+package java.util.primitive;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * @Author：zhuangfei
+ * @Description：int[]的LSD基数排序，每次按8位分桶，最多4趟，时间是O(n)，排序是稳定的，需要一个同样长度的临时数组。
+ *              有符号的顺序：把最高位取反后按无符号数排，和Integer.compareUnsigned用MIN_VALUE的做法相同；
+ *              无符号的顺序：直接按位排，结果与按Integer.compareUnsigned排序相同。
+ *              带values的方法把values[i]当作keys[i]的附带数据一起移动，key相同时保持原来的先后次序。
+ *              先统计每一趟的直方图，所有元素这一位都相同时跳过这一趟，值域小的数据只需要一两趟。
+ *              parallelSort在元素个数超过PARALLEL_THRESHOLD时把数组分段，用ForkJoinPool的公共池并行统计每段的直方图，
+ *              算出每段在每个桶中的起始位置后再并行分发，各段写的位置互不重叠，不需要同步。
+ *              选8位而不是11位：256个桶的计数和写入位置都能留在L1缓存中，11位的2048个桶在分发时缓存和TLB未命中更多
+ * @Date：18:10 2026/10/19
+ */
+public final class IntRadixSort {
+
+    private static final int RADIX_BITS = 8;
+
+    private static final int BUCKETS = 1 << RADIX_BITS;
+
+    private static final int MASK = BUCKETS - 1;
+
+    private static final int PASSES = Integer.SIZE / RADIX_BITS;
+
+    /**
+     * 小于这个长度时用插入排序
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 64;
+
+    /**
+     * parallelSort在元素个数不小于这个值时才并行
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    /**
+     * 并行时每段最少的元素个数
+     */
+    private static final int MIN_CHUNK = 1 << 16;
+
+    /**
+     * 有符号的顺序要对key取反的位
+     */
+    private static final int SIGNED = Integer.MIN_VALUE;
+
+    private static final int UNSIGNED = 0;
+
+    private IntRadixSort() {}
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把a按有符号数升序排序
+     * @Date：18:12 2026/10/19
+     */
+    public static void sort(int[] a) {
+        sort0(a, null, 0, a.length, SIGNED, false);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把a[fromIndex, toIndex)按有符号数升序排序
+     * PS ：fromIndex > toIndex时会抛出 IllegalArgumentException(非法参数异常)，
+     *     范围超出数组时会抛出 ArrayIndexOutOfBoundsException(数组下标越界异常)
+     * @Date：18:13 2026/10/19
+     */
+    public static void sort(int[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        sort0(a, null, fromIndex, toIndex, SIGNED, false);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把a按无符号数升序排序
+     * @Date：18:14 2026/10/19
+     */
+    public static void sortUnsigned(int[] a) {
+        sort0(a, null, 0, a.length, UNSIGNED, false);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把a[fromIndex, toIndex)按无符号数升序排序
+     * PS ：范围错误时抛出的异常与sort(int[], int, int)相同
+     * @Date：18:15 2026/10/19
+     */
+    public static void sortUnsigned(int[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        sort0(a, null, fromIndex, toIndex, UNSIGNED, false);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把keys按有符号数升序排序，values中相同下标的元素跟着一起移动
+     * PS ：values比keys短时会抛出 ArrayIndexOutOfBoundsException(数组下标越界异常)
+     * @Date：18:16 2026/10/19
+     */
+    public static void sort(int[] keys, int[] values) {
+        sort(keys, values, 0, keys.length);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把keys[fromIndex, toIndex)按有符号数升序排序，values[fromIndex, toIndex)跟着一起移动
+     * PS ：范围错误时抛出的异常与sort(int[], int, int)相同
+     * @Date：18:17 2026/10/19
+     */
+    public static void sort(int[] keys, int[] values, int fromIndex, int toIndex) {
+        rangeCheck(keys.length, fromIndex, toIndex);
+        rangeCheck(values.length, fromIndex, toIndex);
+        sort0(keys, values, fromIndex, toIndex, SIGNED, false);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把keys按无符号数升序排序，values中相同下标的元素跟着一起移动
+     * @Date：18:18 2026/10/19
+     */
+    public static void sortUnsigned(int[] keys, int[] values) {
+        sortUnsigned(keys, values, 0, keys.length);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把keys[fromIndex, toIndex)按无符号数升序排序，values[fromIndex, toIndex)跟着一起移动
+     * PS ：范围错误时抛出的异常与sort(int[], int, int)相同
+     * @Date：18:19 2026/10/19
+     */
+    public static void sortUnsigned(int[] keys, int[] values, int fromIndex, int toIndex) {
+        rangeCheck(keys.length, fromIndex, toIndex);
+        rangeCheck(values.length, fromIndex, toIndex);
+        sort0(keys, values, fromIndex, toIndex, UNSIGNED, false);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和sort(int[])相同，元素较多时并行
+     * @Date：18:20 2026/10/19
+     */
+    public static void parallelSort(int[] a) {
+        sort0(a, null, 0, a.length, SIGNED, true);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和sort(int[], int, int)相同，元素较多时并行
+     * @Date：18:20 2026/10/19
+     */
+    public static void parallelSort(int[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        sort0(a, null, fromIndex, toIndex, SIGNED, true);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和sortUnsigned(int[])相同，元素较多时并行
+     * @Date：18:21 2026/10/19
+     */
+    public static void parallelSortUnsigned(int[] a) {
+        sort0(a, null, 0, a.length, UNSIGNED, true);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和sortUnsigned(int[], int, int)相同，元素较多时并行
+     * @Date：18:21 2026/10/19
+     */
+    public static void parallelSortUnsigned(int[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        sort0(a, null, fromIndex, toIndex, UNSIGNED, true);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和sort(int[], int[])相同，元素较多时并行
+     * @Date：18:22 2026/10/19
+     */
+    public static void parallelSort(int[] keys, int[] values) {
+        parallelSort(keys, values, 0, keys.length);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和sort(int[], int[], int, int)相同，元素较多时并行
+     * @Date：18:22 2026/10/19
+     */
+    public static void parallelSort(int[] keys, int[] values, int fromIndex, int toIndex) {
+        rangeCheck(keys.length, fromIndex, toIndex);
+        rangeCheck(values.length, fromIndex, toIndex);
+        sort0(keys, values, fromIndex, toIndex, SIGNED, true);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和sortUnsigned(int[], int[])相同，元素较多时并行
+     * @Date：18:23 2026/10/19
+     */
+    public static void parallelSortUnsigned(int[] keys, int[] values) {
+        parallelSortUnsigned(keys, values, 0, keys.length);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：和sortUnsigned(int[], int[], int, int)相同，元素较多时并行
+     * @Date：18:23 2026/10/19
+     */
+    public static void parallelSortUnsigned(int[] keys, int[] values, int fromIndex, int toIndex) {
+        rangeCheck(keys.length, fromIndex, toIndex);
+        rangeCheck(values.length, fromIndex, toIndex);
+        sort0(keys, values, fromIndex, toIndex, UNSIGNED, true);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：排序的入口，keys[i] ^ flip按无符号数比较。values为null时只排keys
+     * @Date：18:25 2026/10/19
+     */
+    private static void sort0(int[] keys, int[] values, int from, int to, int flip, boolean parallel) {
+        int n = to - from;
+        if(n < INSERTION_SORT_THRESHOLD) {
+            insertionSort(keys, values, from, to, flip);
+            return;
+        }
+        int chunks = 1;
+        if(parallel && n >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            chunks = Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, n / MIN_CHUNK);
+        }
+        if(chunks > 1) {
+            parallelRadixSort(keys, values, from, n, flip, chunks);
+        } else {
+            radixSort(keys, values, from, n, flip);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：单线程的基数排序，先用一次遍历算出4趟的直方图，之后每趟只需要一次分发
+     * @Date：18:28 2026/10/19
+     */
+    private static void radixSort(int[] keys, int[] values, int from, int n, int flip) {
+        int[][] counts = new int[PASSES][BUCKETS];
+        for(int i = from, end = from + n; i < end; i++) {
+            int k = keys[i] ^ flip;
+            counts[0][k & MASK]++;
+            counts[1][(k >>> 8) & MASK]++;
+            counts[2][(k >>> 16) & MASK]++;
+            counts[3][k >>> 24]++;
+        }
+        int[] src = keys;
+        int[] srcValues = values;
+        int srcOff = from;
+        int[] dst = new int[n];
+        int[] dstValues = values == null ? null : new int[n];
+        int dstOff = 0;
+        for(int pass = 0; pass < PASSES; pass++) {
+            int[] offsets = counts[pass];
+            if(!toOffsets(offsets, n)) {
+                continue;
+            }
+            int shift = pass * RADIX_BITS;
+            scatter(src, srcValues, srcOff, srcOff + n, dst, dstValues, dstOff, offsets, shift, flip);
+            int[] t = src;
+            src = dst;
+            dst = t;
+            t = srcValues;
+            srcValues = dstValues;
+            dstValues = t;
+            int o = srcOff;
+            srcOff = dstOff;
+            dstOff = o;
+        }
+        copyBack(src, srcValues, keys, values, from, n);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：并行的基数排序，数组分成chunks段，每一趟先并行统计每段的直方图，
+     *              再按桶优先、段其次的顺序累加出每段在每个桶中的起始位置，最后并行分发。
+     *              同一个桶里前面的段排在前面，段内按原来的顺序写入，所以仍然是稳定的
+     * @Date：18:32 2026/10/19
+     */
+    private static void parallelRadixSort(int[] keys, int[] values, int from, int n, int flip, int chunks) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int[][] counts = new int[chunks][BUCKETS];
+        int[] bounds = new int[chunks + 1];
+        for(int c = 0; c <= chunks; c++) {
+            bounds[c] = (int) ((long) n * c / chunks);
+        }
+        int[] src = keys;
+        int[] srcValues = values;
+        int srcOff = from;
+        int[] dst = new int[n];
+        int[] dstValues = values == null ? null : new int[n];
+        int dstOff = 0;
+        for(int pass = 0; pass < PASSES; pass++) {
+            int shift = pass * RADIX_BITS;
+            int[] s = src;
+            int so = srcOff;
+            pool.invoke(new ChunkAction(0, chunks, c -> {
+                int[] count = counts[c];
+                Arrays.fill(count, 0);
+                for(int i = so + bounds[c], end = so + bounds[c + 1]; i < end; i++) {
+                    count[((s[i] ^ flip) >>> shift) & MASK]++;
+                }
+            }));
+            if(!toOffsets(counts, n)) {
+                continue;
+            }
+            int[] sv = srcValues;
+            int[] d = dst;
+            int[] dv = dstValues;
+            int dOff = dstOff;
+            pool.invoke(new ChunkAction(0, chunks, c ->
+                    scatter(s, sv, so + bounds[c], so + bounds[c + 1], d, dv, dOff, counts[c], shift, flip)));
+            src = d;
+            dst = s;
+            srcValues = dv;
+            dstValues = sv;
+            srcOff = dOff;
+            dstOff = so;
+        }
+        copyBack(src, srcValues, keys, values, from, n);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把一趟的直方图原地换成每个桶的起始位置。所有元素都在同一个桶中时返回false，这一趟可以跳过
+     * @Date：18:35 2026/10/19
+     */
+    private static boolean toOffsets(int[] count, int n) {
+        int sum = 0;
+        for(int b = 0; b < BUCKETS; b++) {
+            int t = count[b];
+            if(t == n) {
+                return false;
+            }
+            count[b] = sum;
+            sum += t;
+        }
+        return true;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：多段直方图的版本，counts[c][b]换成第c段在第b个桶中的起始位置
+     * @Date：18:36 2026/10/19
+     */
+    private static boolean toOffsets(int[][] counts, int n) {
+        for(int b = 0; b < BUCKETS; b++) {
+            int total = 0;
+            for(int[] count : counts) {
+                total += count[b];
+            }
+            if(total == n) {
+                return false;
+            }
+        }
+        int sum = 0;
+        for(int b = 0; b < BUCKETS; b++) {
+            for(int[] count : counts) {
+                int t = count[b];
+                count[b] = sum;
+                sum += t;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[from, to)按第shift位开始的8位分发到dst，offsets是每个桶下一个写入位置(相对dstOff)，会被修改
+     * @Date：18:38 2026/10/19
+     */
+    private static void scatter(int[] src, int[] srcValues, int from, int to,
+                                int[] dst, int[] dstValues, int dstOff, int[] offsets, int shift, int flip) {
+        if(srcValues == null) {
+            for(int i = from; i < to; i++) {
+                int k = src[i];
+                dst[dstOff + offsets[((k ^ flip) >>> shift) & MASK]++] = k;
+            }
+        } else {
+            for(int i = from; i < to; i++) {
+                int k = src[i];
+                int p = dstOff + offsets[((k ^ flip) >>> shift) & MASK]++;
+                dst[p] = k;
+                dstValues[p] = srcValues[i];
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：做了奇数趟时结果在临时数组中，复制回原数组
+     * @Date：18:39 2026/10/19
+     */
+    private static void copyBack(int[] src, int[] srcValues, int[] keys, int[] values, int from, int n) {
+        if(src != keys) {
+            System.arraycopy(src, 0, keys, from, n);
+            if(values != null) {
+                System.arraycopy(srcValues, 0, values, from, n);
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：稳定的插入排序，(k ^ flip ^ MIN_VALUE)按有符号数比较等价于k ^ flip按无符号数比较
+     * @Date：18:40 2026/10/19
+     */
+    private static void insertionSort(int[] keys, int[] values, int from, int to, int flip) {
+        int bias = flip ^ Integer.MIN_VALUE;
+        for(int i = from + 1; i < to; i++) {
+            int k = keys[i];
+            int v = values == null ? 0 : values[i];
+            int kb = k ^ bias;
+            int j = i - 1;
+            while(j >= from && (keys[j] ^ bias) > kb) {
+                keys[j + 1] = keys[j];
+                if(values != null) {
+                    values[j + 1] = values[j];
+                }
+                j--;
+            }
+            keys[j + 1] = k;
+            if(values != null) {
+                values[j + 1] = v;
+            }
+        }
+    }
+
+    private static void rangeCheck(int arrayLength, int fromIndex, int toIndex) {
+        if(fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if(fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if(toIndex > arrayLength) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：对[lo, hi)中的每一段调用body，不断二分后fork，每个叶子任务处理一段
+     * @Date：18:42 2026/10/19
+     */
+    private static final class ChunkAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int lo;
+
+        private final int hi;
+
+        private final IntConsumer body;
+
+        ChunkAction(int lo, int hi, IntConsumer body) {
+            this.lo = lo;
+            this.hi = hi;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if(hi - lo == 1) {
+                body.accept(lo);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ChunkAction(lo, mid, body), new ChunkAction(mid, hi, body));
+        }
+    }
+}
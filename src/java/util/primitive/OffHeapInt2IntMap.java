@@ -0,0 +1,421 @@
+package java.util.primitive;
+
+/**
+ * @Author：zhuangfei
+ * @Description：槽位存放在堆外直接内存中的开放寻址(线性探测)int到int映射，用法与Int2IntHashMap相同。
+ *              每个槽位的键和值相邻存放(第2i个int是键，第2i + 1个int是值)，一次探测只访问一个缓存行；
+ *              槽位数最多IntHashing.MAX_CAPACITY，即8GB，不占Java堆，GC不受表大小影响。
+ *              键为0的槽表示空槽，键0本身单独记录；槽位由IntHashing.mix(基于Integer.hashCode(int))决定，删除时前移补位。
+ *              用完后必须调用close()立即释放内存，关闭后再访问会抛出 IllegalStateException(非法状态异常)。
+ *              不是线程安全的
+ * @Date：14:40 2026/10/19
+ */
+public class OffHeapInt2IntMap implements AutoCloseable {
+
+    private final float loadFactor;
+
+    private final int missingValue;
+
+    private DirectInts slots;
+
+    private int mask;
+
+    private int threshold;
+
+    /**
+     * 除键0以外的键值对个数
+     */
+    private int size;
+
+    private boolean containsZeroKey;
+
+    private int zeroValue;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个空映射，查不到时返回missingValue
+     * expected ：预计的键值对个数，达到之前不会扩容
+     * missingValue ：查不到时返回的值
+     * PS ：expected为负数或过大时会抛出 IllegalArgumentException(非法参数异常)
+     *     直接内存不足时会抛出 OutOfMemoryError
+     * @Date：14:42 2026/10/19
+     */
+    public OffHeapInt2IntMap(int expected, int missingValue) {
+        this(expected, IntHashing.DEFAULT_LOAD_FACTOR, missingValue);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个空映射并指定装载因子
+     * expected ：预计的键值对个数
+     * loadFactor ：装载因子，在(0, 1)之间
+     * missingValue ：查不到时返回的值
+     * PS ：参数不合法时会抛出 IllegalArgumentException(非法参数异常)
+     *     直接内存不足时会抛出 OutOfMemoryError
+     * @Date：14:43 2026/10/19
+     */
+    public OffHeapInt2IntMap(int expected, float loadFactor, int missingValue) {
+        this.loadFactor = loadFactor;
+        this.missingValue = missingValue;
+        allocate(IntHashing.capacityFor(expected, loadFactor));
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回查不到时使用的值
+     * @Date：14:44 2026/10/19
+     */
+    public int missingValue() {
+        return missingValue;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回键值对个数
+     * @Date：14:44 2026/10/19
+     */
+    public int size() {
+        return containsZeroKey ? size + 1 : size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：映射为空时返回true
+     * @Date：14:45 2026/10/19
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回当前的槽位数
+     * @Date：14:45 2026/10/19
+     */
+    public int capacity() {
+        ensureOpen();
+        return mask + 1;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回key对应的值，没有时返回missingValue
+     * @Date：14:46 2026/10/19
+     */
+    public int get(int key) {
+        return getOrDefault(key, missingValue);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回key对应的值，没有时返回defaultValue
+     * @Date：14:46 2026/10/19
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        ensureOpen();
+        if(key == 0) {
+            return containsZeroKey ? zeroValue : defaultValue;
+        }
+        long slot = find(key);
+        return slot >= 0 ? slots.get(slot + 1) : defaultValue;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：有key对应的键值对时返回true
+     * @Date：14:47 2026/10/19
+     */
+    public boolean containsKey(int key) {
+        ensureOpen();
+        return key == 0 ? containsZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：设置key对应的值，返回原来的值，原来没有时返回missingValue
+     * PS ：需要扩容但直接内存不足时会抛出 OutOfMemoryError
+     * @Date：14:48 2026/10/19
+     */
+    public int put(int key, int value) {
+        ensureOpen();
+        if(key == 0) {
+            int old = containsZeroKey ? zeroValue : missingValue;
+            containsZeroKey = true;
+            zeroValue = value;
+            return old;
+        }
+        DirectInts s = slots;
+        int m = mask;
+        int i = IntHashing.mix(key) & m;
+        for(int cur; (cur = s.get((long) i << 1)) != 0; i = (i + 1) & m) {
+            if(cur == key) {
+                long p = ((long) i << 1) + 1;
+                int old = s.get(p);
+                s.put(p, value);
+                return old;
+            }
+        }
+        s.put((long) i << 1, key);
+        s.put(((long) i << 1) + 1, value);
+        if(++size > threshold) {
+            rehash((mask + 1) << 1);
+        }
+        return missingValue;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把key对应的值加上delta并返回相加后的值，原来没有时从0开始加
+     * @Date：14:50 2026/10/19
+     */
+    public int addTo(int key, int delta) {
+        ensureOpen();
+        if(key == 0) {
+            if(!containsZeroKey) {
+                containsZeroKey = true;
+                zeroValue = 0;
+            }
+            return zeroValue += delta;
+        }
+        DirectInts s = slots;
+        int m = mask;
+        int i = IntHashing.mix(key) & m;
+        for(int cur; (cur = s.get((long) i << 1)) != 0; i = (i + 1) & m) {
+            if(cur == key) {
+                long p = ((long) i << 1) + 1;
+                int v = s.get(p) + delta;
+                s.put(p, v);
+                return v;
+            }
+        }
+        s.put((long) i << 1, key);
+        s.put(((long) i << 1) + 1, delta);
+        if(++size > threshold) {
+            rehash((mask + 1) << 1);
+        }
+        return delta;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除key对应的键值对，返回原来的值，原来没有时返回missingValue
+     * @Date：14:51 2026/10/19
+     */
+    public int remove(int key) {
+        ensureOpen();
+        if(key == 0) {
+            if(!containsZeroKey) {
+                return missingValue;
+            }
+            containsZeroKey = false;
+            return zeroValue;
+        }
+        long slot = find(key);
+        if(slot < 0) {
+            return missingValue;
+        }
+        int old = slots.get(slot + 1);
+        removeSlot((int) (slot >>> 1));
+        return old;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：批量放入keys[off, off + len)和values[off, off + len)，相同的键后面的覆盖前面的
+     * PS ：off和len不在数组范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：14:52 2026/10/19
+     */
+    public void load(int[] keys, int[] values, int off, int len) {
+        if(off < 0 || len < 0 || off > keys.length - len || off > values.length - len) {
+            throw new IndexOutOfBoundsException("off " + off + ", len " + len
+                    + ", keys " + keys.length + ", values " + values.length);
+        }
+        ensureOpen();
+        // 预先扩容，避免放入过程中多次重新散列
+        long needed = (long) size() + len;
+        if(needed > threshold) {
+            int capacity = IntHashing.capacityFor((int) Math.min(needed, IntHashing.MAX_CAPACITY), loadFactor);
+            if(capacity > mask + 1) {
+                rehash(capacity);
+            }
+        }
+        for(int i = off, end = off + len; i < end; i++) {
+            put(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把所有键值对批量写到keys[off, ...)和values[off, ...)，返回写入的个数，顺序不确定
+     * PS ：数组放不下时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：14:54 2026/10/19
+     */
+    public int store(int[] keys, int[] values, int off) {
+        ensureOpen();
+        int n = size();
+        if(off < 0 || off > keys.length - n || off > values.length - n) {
+            throw new IndexOutOfBoundsException("off " + off + ", size " + n
+                    + ", keys " + keys.length + ", values " + values.length);
+        }
+        int j = off;
+        if(containsZeroKey) {
+            keys[j] = 0;
+            values[j++] = zeroValue;
+        }
+        // 按块读到堆内的缓冲区再挑出非空槽，比逐个读取直接缓冲区快
+        int[] buf = new int[(int) Math.min(slots.length(), 1 << 12)];
+        for(long p = 0, total = slots.length(); p < total; p += buf.length) {
+            int n2 = (int) Math.min(buf.length, total - p);
+            slots.get(p, buf, 0, n2);
+            for(int q = 0; q < n2; q += 2) {
+                if(buf[q] != 0) {
+                    keys[j] = buf[q];
+                    values[j++] = buf[q + 1];
+                }
+            }
+        }
+        return j - off;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：对每个键值对调用action，顺序不确定
+     * @Date：14:56 2026/10/19
+     */
+    public void forEach(Int2IntHashMap.EntryConsumer action) {
+        ensureOpen();
+        if(containsZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        DirectInts s = slots;
+        for(long p = 0, total = s.length(); p < total; p += 2) {
+            int key = s.get(p);
+            if(key != 0) {
+                action.accept(key, s.get(p + 1));
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除所有键值对，不缩小槽位
+     * @Date：14:57 2026/10/19
+     */
+    public void clear() {
+        ensureOpen();
+        if(size > 0) {
+            slots.fill(0, slots.length(), 0);
+            size = 0;
+        }
+        containsZeroKey = false;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：当前是否已经关闭
+     * @Date：14:58 2026/10/19
+     */
+    public boolean isClosed() {
+        return slots == null;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：立即释放直接内存，可以重复调用
+     * @Date：14:58 2026/10/19
+     */
+    @Override
+    public void close() {
+        DirectInts s = slots;
+        if(s != null) {
+            slots = null;
+            size = 0;
+            containsZeroKey = false;
+            s.free();
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回非0的key所在槽位的键的位置(槽位下标的两倍)，没有时返回-1
+     * @Date：15:00 2026/10/19
+     */
+    private long find(int key) {
+        DirectInts s = slots;
+        int m = mask;
+        for(int i = IntHashing.mix(key) & m; ; i = (i + 1) & m) {
+            long p = (long) i << 1;
+            int cur = s.get(p);
+            if(cur == key) {
+                return p;
+            }
+            if(cur == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        slots = new DirectInts((long) capacity << 1);
+        mask = capacity - 1;
+        threshold = IntHashing.threshold(capacity, loadFactor);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：换成capacity个槽位，重新放入所有键值对后释放原来的内存
+     * @Date：15:02 2026/10/19
+     */
+    private void rehash(int capacity) {
+        if(capacity > IntHashing.MAX_CAPACITY || capacity <= 0) {
+            throw new IllegalStateException("Map too large: " + size());
+        }
+        DirectInts old = slots;
+        allocate(capacity);
+        DirectInts s = slots;
+        int m = mask;
+        for(long p = 0, total = old.length(); p < total; p += 2) {
+            int key = old.get(p);
+            if(key != 0) {
+                int i = IntHashing.mix(key) & m;
+                while(s.get((long) i << 1) != 0) {
+                    i = (i + 1) & m;
+                }
+                s.put((long) i << 1, key);
+                s.put(((long) i << 1) + 1, old.get(p + 1));
+            }
+        }
+        old.free();
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：清空槽位slot，并把后面同一串中可以前移的键值对移到空位上，做法与IntHashSet相同
+     * @Date：15:04 2026/10/19
+     */
+    private void removeSlot(int slot) {
+        DirectInts s = slots;
+        int m = mask;
+        int gap = slot;
+        for(int j = (gap + 1) & m; ; j = (j + 1) & m) {
+            int key = s.get((long) j << 1);
+            if(key == 0) {
+                break;
+            }
+            int ideal = IntHashing.mix(key) & m;
+            if(((j - ideal) & m) >= ((j - gap) & m)) {
+                s.put((long) gap << 1, key);
+                s.put(((long) gap << 1) + 1, s.get(((long) j << 1) + 1));
+                gap = j;
+            }
+        }
+        s.put((long) gap << 1, 0);
+        size--;
+    }
+
+    private void ensureOpen() {
+        if(slots == null) {
+            throw new IllegalStateException("OffHeapInt2IntMap is closed");
+        }
+    }
+}
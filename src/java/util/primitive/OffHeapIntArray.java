@@ -0,0 +1,291 @@
+package java.util.primitive;
+
+/**
+ * @Author：zhuangfei
+ * @Description：元素存放在堆外直接内存中的可变长int数组，长度用long表示，可以超过Integer.MAX_VALUE。
+ *              数据不在Java堆上，GC不需要扫描和复制，适合几个GB的整数表。
+ *              容量小于一块(DirectInts.CHUNK_INTS)时按两倍扩容并复制，之后每次追加整块，不再复制已有的数据。
+ *              用完后必须调用close()立即释放内存，关闭后再访问会抛出 IllegalStateException(非法状态异常)。
+ *              不是线程安全的；没有写入时，多个线程可以同时调用get
+ * @Date：14:20 2026/10/19
+ */
+public class OffHeapIntArray implements AutoCloseable {
+
+    private static final long DEFAULT_CAPACITY = 16;
+
+    private DirectInts data;
+
+    private long size;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个空数组
+     * @Date：14:21 2026/10/19
+     */
+    public OffHeapIntArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个指定初始容量的空数组
+     * initialCapacity ：初始容量
+     * PS ：initialCapacity为负数时会抛出 IllegalArgumentException(非法参数异常)
+     *     直接内存不足时会抛出 OutOfMemoryError
+     * @Date：14:22 2026/10/19
+     */
+    public OffHeapIntArray(long initialCapacity) {
+        if(initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        data = new DirectInts(initialCapacity);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回元素个数
+     * @Date：14:23 2026/10/19
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回当前容量
+     * @Date：14:23 2026/10/19
+     */
+    public long capacity() {
+        ensureOpen();
+        return data.length();
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回index位置的元素
+     * PS ：index越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：14:24 2026/10/19
+     */
+    public int get(long index) {
+        checkIndex(index);
+        return data.get(index);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把index位置的元素当作无符号数返回
+     * PS ：index越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：14:25 2026/10/19
+     */
+    public long getUnsigned(long index) {
+        return Integer.toUnsignedLong(get(index));
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把index位置的元素替换为value
+     * PS ：index越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：14:26 2026/10/19
+     */
+    public void set(long index, int value) {
+        checkIndex(index);
+        data.put(index, value);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：在末尾添加一个元素
+     * @Date：14:26 2026/10/19
+     */
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        data.put(size++, value);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：在末尾批量添加src[off, off + len)
+     * PS ：off和len不在数组范围内时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：14:27 2026/10/19
+     */
+    public void addAll(int[] src, int off, int len) {
+        checkArrayRange(src, off, len);
+        ensureCapacity(size + len);
+        data.put(size, src, off, len);
+        size += len;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[off, off + len)批量写入[index, index + len)，写入的范围不能超过size
+     * PS ：范围越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：14:28 2026/10/19
+     */
+    public void load(long index, int[] src, int off, int len) {
+        checkArrayRange(src, off, len);
+        checkRange(index, len);
+        data.put(index, src, off, len);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把[index, index + len)批量读到dst[off, off + len)
+     * PS ：范围越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：14:29 2026/10/19
+     */
+    public void store(long index, int[] dst, int off, int len) {
+        checkArrayRange(dst, off, len);
+        checkRange(index, len);
+        data.get(index, dst, off, len);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回包含所有元素的堆内数组
+     * PS ：元素个数超过数组的最大长度时会抛出 IllegalStateException(非法状态异常)
+     * @Date：14:30 2026/10/19
+     */
+    public int[] toArray() {
+        ensureOpen();
+        if(size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many elements for an int[]: " + size);
+        }
+        int[] result = new int[(int) size];
+        data.get(0, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：在按有符号数升序排列的数组中二分查找key，找到时返回下标，
+     *              否则返回-(插入位置) - 1，与Arrays.binarySearch相同
+     * @Date：14:31 2026/10/19
+     */
+    public long binarySearch(int key) {
+        ensureOpen();
+        long low = 0;
+        long high = size - 1;
+        while(low <= high) {
+            long mid = (low + high) >>> 1;
+            int midVal = data.get(mid);
+            if(midVal < key) {
+                low = mid + 1;
+            } else if(midVal > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：在按无符号数升序排列的数组中二分查找key，比较用Integer.compareUnsigned，返回值与binarySearch相同
+     * @Date：14:32 2026/10/19
+     */
+    public long binarySearchUnsigned(int key) {
+        ensureOpen();
+        long low = 0;
+        long high = size - 1;
+        while(low <= high) {
+            long mid = (low + high) >>> 1;
+            int cmp = Integer.compareUnsigned(data.get(mid), key);
+            if(cmp < 0) {
+                low = mid + 1;
+            } else if(cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除所有元素，不释放内存
+     * @Date：14:33 2026/10/19
+     */
+    public void clear() {
+        ensureOpen();
+        size = 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：保证至少能放下minCapacity个元素
+     * PS ：直接内存不足时会抛出 OutOfMemoryError
+     * @Date：14:34 2026/10/19
+     */
+    public void ensureCapacity(long minCapacity) {
+        ensureOpen();
+        long capacity = data.length();
+        if(minCapacity <= capacity) {
+            return;
+        }
+        long newCapacity = Math.max(minCapacity, capacity << 1);
+        if(capacity >= DirectInts.CHUNK_INTS && data.canExtend()) {
+            data.extend(newCapacity);
+            return;
+        }
+        if(newCapacity > DirectInts.CHUNK_INTS) {
+            // 超过一块之后按整块分配，以后就可以只追加不复制
+            newCapacity = (newCapacity + DirectInts.CHUNK_MASK) & ~(long) DirectInts.CHUNK_MASK;
+        }
+        DirectInts grown = new DirectInts(newCapacity);
+        data.copyTo(0, grown, 0, size);
+        data.free();
+        data = grown;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：当前是否已经关闭
+     * @Date：14:36 2026/10/19
+     */
+    public boolean isClosed() {
+        return data == null;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：立即释放直接内存，可以重复调用
+     * @Date：14:36 2026/10/19
+     */
+    @Override
+    public void close() {
+        DirectInts d = data;
+        if(d != null) {
+            data = null;
+            size = 0;
+            d.free();
+        }
+    }
+
+    private void ensureOpen() {
+        if(data == null) {
+            throw new IllegalStateException("OffHeapIntArray is closed");
+        }
+    }
+
+    private void checkIndex(long index) {
+        ensureOpen();
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkRange(long index, int len) {
+        ensureOpen();
+        if(index < 0 || index > size - len) {
+            throw new IndexOutOfBoundsException("index " + index + ", len " + len + ", size " + size);
+        }
+    }
+
+    private static void checkArrayRange(int[] a, int off, int len) {
+        if(off < 0 || len < 0 || off > a.length - len) {
+            throw new IndexOutOfBoundsException("off " + off + ", len " + len + ", length " + a.length);
+        }
+    }
+}
@@ -0,0 +1,1513 @@
+package java.util.primitive;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * @Author：zhuangfei
+ * @Description：Roaring方式压缩的32位无符号整数集合。
+ *              按高16位分组，每组的低16位放在一个容器中，容器有三种：
+ *              元素不超过4096个时用有序的char[](数组容器)，超过时用1024个long的位图(位图容器)，
+ *              连续的区间多时可以用runOptimize()换成(起点, 长度)对(行程容器)。
+ *              位图容器的基数用Integer/Long.bitCount维护，rank、select和遍历用numberOfTrailingZeros定位。
+ *              所有顺序(遍历、rank、select、first、last)都按无符号数比较，即0 ~ 0xFFFFFFFF。
+ *              序列化格式与Roaring的portable格式相同，可以和其他语言的实现互相读写。不是线程安全的
+ * @Date：15:20 2026/10/19
+ */
+public class RoaringBitmap {
+
+    /**
+     * 数组容器的最大元素个数，超过时换成位图容器
+     */
+    static final int ARRAY_MAX_SIZE = 4096;
+
+    private static final int SERIAL_COOKIE_NO_RUNCONTAINER = 12346;
+
+    private static final int SERIAL_COOKIE = 12347;
+
+    private static final int NO_OFFSET_THRESHOLD = 4;
+
+    private char[] keys;
+
+    private Container[] containers;
+
+    private int size;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建一个空集合
+     * @Date：15:22 2026/10/19
+     */
+    public RoaringBitmap() {
+        keys = new char[4];
+        containers = new Container[4];
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：创建包含values中所有元素的集合
+     * @Date：15:23 2026/10/19
+     */
+    public static RoaringBitmap of(int... values) {
+        RoaringBitmap r = new RoaringBitmap();
+        for(int v : values) {
+            r.add(v);
+        }
+        return r;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：添加x，原来没有x时返回true
+     * @Date：15:24 2026/10/19
+     */
+    public boolean add(int x) {
+        char hb = (char) (x >>> 16);
+        int i = indexOf(hb);
+        if(i >= 0) {
+            Container c = containers[i];
+            int before = c.cardinality();
+            containers[i] = c.add(x & 0xFFFF);
+            return containers[i].cardinality() != before;
+        }
+        ArrayContainer c = new ArrayContainer(4);
+        c.add(x & 0xFFFF);
+        insertAt(-i - 1, hb, c);
+        return true;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：添加[rangeStart, rangeEnd)中的所有值，两端都按0 ~ 2^32之间的无符号数理解。
+     *              整段的区间直接用行程容器存放
+     * PS ：区间不合法时会抛出 IllegalArgumentException(非法参数异常)
+     * @Date：15:26 2026/10/19
+     */
+    public void add(long rangeStart, long rangeEnd) {
+        checkRange(rangeStart, rangeEnd);
+        if(rangeStart == rangeEnd) {
+            return;
+        }
+        long last = rangeEnd - 1;
+        for(long hb = rangeStart >>> 16; hb <= last >>> 16; hb++) {
+            int lo = hb == rangeStart >>> 16 ? (int) (rangeStart & 0xFFFF) : 0;
+            int hi = hb == last >>> 16 ? (int) (last & 0xFFFF) : 0xFFFF;
+            Container range = RunContainer.range(lo, hi);
+            int i = indexOf((char) hb);
+            if(i >= 0) {
+                containers[i] = Container.or(containers[i], range);
+            } else {
+                insertAt(-i - 1, (char) hb, range);
+            }
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除x，原来有x时返回true
+     * @Date：15:28 2026/10/19
+     */
+    public boolean remove(int x) {
+        int i = indexOf((char) (x >>> 16));
+        if(i < 0) {
+            return false;
+        }
+        Container c = containers[i];
+        int before = c.cardinality();
+        c = c.remove(x & 0xFFFF);
+        if(c.cardinality() == 0) {
+            removeAt(i);
+        } else {
+            containers[i] = c;
+        }
+        return c.cardinality() != before;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：集合中有x时返回true
+     * @Date：15:29 2026/10/19
+     */
+    public boolean contains(int x) {
+        int i = indexOf((char) (x >>> 16));
+        return i >= 0 && containers[i].contains(x & 0xFFFF);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回元素个数，最多2^32
+     * @Date：15:30 2026/10/19
+     */
+    public long getCardinality() {
+        long n = 0;
+        for(int i = 0; i < size; i++) {
+            n += containers[i].cardinality();
+        }
+        return n;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：集合为空时返回true
+     * @Date：15:30 2026/10/19
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：删除所有元素
+     * @Date：15:31 2026/10/19
+     */
+    public void clear() {
+        Arrays.fill(containers, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回不大于x(无符号比较)的元素个数
+     * @Date：15:32 2026/10/19
+     */
+    public long rank(int x) {
+        char hb = (char) (x >>> 16);
+        long r = 0;
+        for(int i = 0; i < size; i++) {
+            if(keys[i] < hb) {
+                r += containers[i].cardinality();
+            } else {
+                if(keys[i] == hb) {
+                    r += containers[i].rank(x & 0xFFFF);
+                }
+                break;
+            }
+        }
+        return r;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回第j个元素(从0开始，按无符号数升序)，select(rank(x) - 1) == x
+     * PS ：j不在[0, getCardinality())之间时会抛出 IllegalArgumentException(非法参数异常)
+     * @Date：15:33 2026/10/19
+     */
+    public int select(long j) {
+        if(j >= 0) {
+            long left = j;
+            for(int i = 0; i < size; i++) {
+                int card = containers[i].cardinality();
+                if(left < card) {
+                    return (keys[i] << 16) | containers[i].select((int) left);
+                }
+                left -= card;
+            }
+        }
+        throw new IllegalArgumentException("select " + j + " when cardinality is " + getCardinality());
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回最小的元素(无符号比较)
+     * PS ：集合为空时会抛出 NoSuchElementException
+     * @Date：15:34 2026/10/19
+     */
+    public int first() {
+        if(size == 0) {
+            throw new NoSuchElementException("Empty bitmap");
+        }
+        return (keys[0] << 16) | containers[0].first();
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回最大的元素(无符号比较)
+     * PS ：集合为空时会抛出 NoSuchElementException
+     * @Date：15:35 2026/10/19
+     */
+    public int last() {
+        if(size == 0) {
+            throw new NoSuchElementException("Empty bitmap");
+        }
+        return (keys[size - 1] << 16) | containers[size - 1].last();
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：按无符号数升序遍历的迭代器，遍历期间不能修改集合
+     * @Date：15:36 2026/10/19
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int ci;
+            private int next = size > 0 ? containers[0].first() : -1;
+
+            @Override
+            public boolean hasNext() {
+                return ci < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if(ci >= size) {
+                    throw new NoSuchElementException();
+                }
+                int result = (keys[ci] << 16) | next;
+                next = containers[ci].nextValue(next + 1);
+                if(next < 0 && ++ci < size) {
+                    next = containers[ci].first();
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：按无符号数升序对每个元素调用action
+     * @Date：15:37 2026/10/19
+     */
+    public void forEach(IntConsumer action) {
+        for(int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回按无符号数升序排列的所有元素
+     * PS ：元素个数超过数组的最大长度时会抛出 IllegalStateException(非法状态异常)
+     * @Date：15:38 2026/10/19
+     */
+    public int[] toArray() {
+        long n = getCardinality();
+        if(n > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many elements for an int[]: " + n);
+        }
+        int[] result = new int[(int) n];
+        int[] pos = {0};
+        forEach(v -> result[pos[0]++] = v);
+        return result;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把每个容器换成三种容器中序列化后最小的一种，连续区间多时会换成行程容器，返回是否有容器变成了行程容器
+     * @Date：15:39 2026/10/19
+     */
+    public boolean runOptimize() {
+        boolean changed = false;
+        for(int i = 0; i < size; i++) {
+            Container c = containers[i].runOptimize();
+            changed |= c instanceof RunContainer && !(containers[i] instanceof RunContainer);
+            containers[i] = c;
+        }
+        return changed;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回a和b的交集，a和b不变
+     * @Date：15:40 2026/10/19
+     */
+    public static RoaringBitmap and(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap r = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while(i < a.size && j < b.size) {
+            char ka = a.keys[i];
+            char kb = b.keys[j];
+            if(ka < kb) {
+                i++;
+            } else if(ka > kb) {
+                j++;
+            } else {
+                r.appendNonEmpty(ka, Container.and(a.containers[i++], b.containers[j++]));
+            }
+        }
+        return r;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回a和b的并集，a和b不变
+     * @Date：15:41 2026/10/19
+     */
+    public static RoaringBitmap or(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap r = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while(i < a.size || j < b.size) {
+            if(j == b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                r.appendNonEmpty(a.keys[i], a.containers[i++].copy());
+            } else if(i == a.size || a.keys[i] > b.keys[j]) {
+                r.appendNonEmpty(b.keys[j], b.containers[j++].copy());
+            } else {
+                r.appendNonEmpty(a.keys[i], Container.or(a.containers[i++], b.containers[j++]));
+            }
+        }
+        return r;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回a和b的对称差，a和b不变
+     * @Date：15:42 2026/10/19
+     */
+    public static RoaringBitmap xor(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap r = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while(i < a.size || j < b.size) {
+            if(j == b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                r.appendNonEmpty(a.keys[i], a.containers[i++].copy());
+            } else if(i == a.size || a.keys[i] > b.keys[j]) {
+                r.appendNonEmpty(b.keys[j], b.containers[j++].copy());
+            } else {
+                r.appendNonEmpty(a.keys[i], Container.xor(a.containers[i++], b.containers[j++]));
+            }
+        }
+        return r;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回在a中但不在b中的元素，a和b不变
+     * @Date：15:43 2026/10/19
+     */
+    public static RoaringBitmap andNot(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap r = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while(i < a.size) {
+            if(j == b.size || a.keys[i] < b.keys[j]) {
+                r.appendNonEmpty(a.keys[i], a.containers[i++].copy());
+            } else if(a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                r.appendNonEmpty(a.keys[i], Container.andNot(a.containers[i++], b.containers[j++]));
+            }
+        }
+        return r;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回serialize写入的字节数
+     * @Date：15:44 2026/10/19
+     */
+    public int serializedSizeInBytes() {
+        boolean hasRun = hasRunContainer();
+        int n = size;
+        int header = hasRun
+                ? 4 + (n + 7) / 8 + 4 * n + (n >= NO_OFFSET_THRESHOLD ? 4 * n : 0)
+                : 8 + 8 * n;
+        int data = 0;
+        for(int i = 0; i < n; i++) {
+            data += containers[i].serializedSize();
+        }
+        return header + data;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：按Roaring的portable格式(小端)写到buf的当前位置，写完后position移到末尾。
+     *              格式：cookie，[行程容器标记位]，每个容器的(高16位, 基数 - 1)，[每个容器的偏移]，然后是各容器的数据
+     * PS ：buf剩余空间不足时会抛出 BufferOverflowException
+     * @Date：15:46 2026/10/19
+     */
+    public void serialize(ByteBuffer buf) {
+        ByteBuffer out = buf.slice().order(ByteOrder.LITTLE_ENDIAN);
+        boolean hasRun = hasRunContainer();
+        int n = size;
+        boolean hasOffsets;
+        if(hasRun) {
+            out.putInt(SERIAL_COOKIE | ((n - 1) << 16));
+            byte[] bits = new byte[(n + 7) / 8];
+            for(int i = 0; i < n; i++) {
+                if(containers[i] instanceof RunContainer) {
+                    bits[i >>> 3] |= 1 << (i & 7);
+                }
+            }
+            out.put(bits);
+            hasOffsets = n >= NO_OFFSET_THRESHOLD;
+        } else {
+            out.putInt(SERIAL_COOKIE_NO_RUNCONTAINER);
+            out.putInt(n);
+            hasOffsets = true;
+        }
+        for(int i = 0; i < n; i++) {
+            out.putChar(keys[i]);
+            out.putChar((char) (containers[i].cardinality() - 1));
+        }
+        if(hasOffsets) {
+            int offset = out.position() + 4 * n;
+            for(int i = 0; i < n; i++) {
+                out.putInt(offset);
+                offset += containers[i].serializedSize();
+            }
+        }
+        for(int i = 0; i < n; i++) {
+            containers[i].writeTo(out);
+        }
+        buf.position(buf.position() + out.position());
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：从buf的当前位置读取serialize写入的内容(也可以是其他Roaring实现写入的portable格式)，
+     *              读完后position移到末尾。buf可以是内存映射的文件，读取时会把容器复制到堆内
+     * PS ：格式不正确时会抛出 IllegalArgumentException(非法参数异常)
+     * @Date：15:48 2026/10/19
+     */
+    public static RoaringBitmap deserialize(ByteBuffer buf) {
+        ByteBuffer in = buf.slice().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            int cookie = in.getInt();
+            int n;
+            byte[] runBits = null;
+            boolean hasOffsets;
+            if((cookie & 0xFFFF) == SERIAL_COOKIE) {
+                n = (cookie >>> 16) + 1;
+                runBits = new byte[(n + 7) / 8];
+                in.get(runBits);
+                hasOffsets = n >= NO_OFFSET_THRESHOLD;
+            } else if(cookie == SERIAL_COOKIE_NO_RUNCONTAINER) {
+                n = in.getInt();
+                if(n < 0 || n > 0x10000) {
+                    throw new IllegalArgumentException("Bad container count: " + n);
+                }
+                hasOffsets = true;
+            } else {
+                throw new IllegalArgumentException("Bad cookie: " + cookie);
+            }
+            RoaringBitmap r = new RoaringBitmap();
+            char[] ks = new char[n];
+            int[] cards = new int[n];
+            for(int i = 0; i < n; i++) {
+                ks[i] = in.getChar();
+                cards[i] = in.getChar() + 1;
+                if(i > 0 && ks[i] <= ks[i - 1]) {
+                    throw new IllegalArgumentException("Keys not sorted at container " + i);
+                }
+            }
+            if(hasOffsets) {
+                // 顺序读取，不需要偏移
+                in.position(in.position() + 4 * n);
+            }
+            for(int i = 0; i < n; i++) {
+                Container c;
+                if(runBits != null && (runBits[i >>> 3] & (1 << (i & 7))) != 0) {
+                    c = RunContainer.readFrom(in);
+                } else if(cards[i] <= ARRAY_MAX_SIZE) {
+                    c = ArrayContainer.readFrom(in, cards[i]);
+                } else {
+                    c = BitmapContainer.readFrom(in);
+                }
+                if(c.cardinality() != cards[i]) {
+                    throw new IllegalArgumentException("Cardinality mismatch at container " + i);
+                }
+                r.appendNonEmpty(ks[i], c);
+            }
+            buf.position(buf.position() + in.position());
+            return r;
+        } catch(java.nio.BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated bitmap", e);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：元素完全相同时两个集合相等，与容器的种类无关
+     * @Date：15:50 2026/10/19
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if(this == obj) {
+            return true;
+        }
+        if(!(obj instanceof RoaringBitmap)) {
+            return false;
+        }
+        RoaringBitmap other = (RoaringBitmap) obj;
+        if(other.size != size) {
+            return false;
+        }
+        for(int i = 0; i < size; i++) {
+            if(keys[i] != other.keys[i] || !containers[i].sameContent(other.containers[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：由所有元素计算，与容器的种类无关
+     * @Date：15:51 2026/10/19
+     */
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for(int i = 0; i < size; i++) {
+            h = 31 * h + keys[i];
+            h = 31 * h + containers[i].contentHash();
+        }
+        return h;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回{a,b,c}格式的字符串，元素按无符号数输出
+     * @Date：15:52 2026/10/19
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach(v -> {
+            if(sb.length() > 1) {
+                sb.append(',');
+            }
+            sb.append(Integer.toUnsignedString(v));
+        });
+        return sb.append('}').toString();
+    }
+
+    private boolean hasRunContainer() {
+        for(int i = 0; i < size; i++) {
+            if(containers[i] instanceof RunContainer) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int indexOf(char hb) {
+        // 最后一个容器最常被访问(顺序添加)，先检查它
+        if(size > 0 && keys[size - 1] == hb) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, hb);
+    }
+
+    private void insertAt(int i, char hb, Container c) {
+        if(size == keys.length) {
+            int n = Math.min(0x10000, size * 2);
+            keys = Arrays.copyOf(keys, n);
+            containers = Arrays.copyOf(containers, n);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(containers, i, containers, i + 1, size - i);
+        keys[i] = hb;
+        containers[i] = c;
+        size++;
+    }
+
+    private void removeAt(int i) {
+        System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+        System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+        containers[--size] = null;
+    }
+
+    private void appendNonEmpty(char hb, Container c) {
+        if(c.cardinality() > 0) {
+            insertAt(size, hb, c);
+        }
+    }
+
+    private static void checkRange(long rangeStart, long rangeEnd) {
+        if(rangeStart < 0 || rangeStart > rangeEnd || rangeEnd > 0x100000000L) {
+            throw new IllegalArgumentException("Bad range [" + rangeStart + ", " + rangeEnd + ")");
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：存放低16位的容器，值用0 ~ 65535的int表示。
+     *              修改操作返回修改后的容器，可能是另一种容器；集合运算返回新的容器，不修改参数
+     * @Date：15:55 2026/10/19
+     */
+    abstract static class Container {
+
+        abstract int cardinality();
+
+        abstract boolean contains(int x);
+
+        abstract Container add(int x);
+
+        abstract Container remove(int x);
+
+        /**
+         * 不大于x的元素个数
+         */
+        abstract int rank(int x);
+
+        /**
+         * 第j个元素，j在[0, cardinality())之间
+         */
+        abstract int select(int j);
+
+        /**
+         * 不小于from的最小元素，没有时返回-1
+         */
+        abstract int nextValue(int from);
+
+        abstract int first();
+
+        abstract int last();
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract Container copy();
+
+        abstract int serializedSize();
+
+        abstract void writeTo(ByteBuffer out);
+
+        /**
+         * 转换成数组容器或位图容器，集合运算只需要处理这两种
+         */
+        abstract Container toNonRun();
+
+        /**
+         * 行程的个数
+         */
+        abstract int numberOfRuns();
+
+        /**
+         * @Author：zhuangfei
+         * @Description：返回三种表示中序列化后最小的一种
+         * @Date：15:57 2026/10/19
+         */
+        Container runOptimize() {
+            int runs = numberOfRuns();
+            int card = cardinality();
+            int runSize = 2 + 4 * runs;
+            int plainSize = card <= ARRAY_MAX_SIZE ? 2 * card : 8192;
+            if(runSize < plainSize) {
+                return this instanceof RunContainer ? this : RunContainer.from(this, runs);
+            }
+            return toNonRun();
+        }
+
+        boolean sameContent(Container o) {
+            if(cardinality() != o.cardinality()) {
+                return false;
+            }
+            for(int a = first(), b = o.first(); a >= 0; a = nextValue(a + 1), b = o.nextValue(b + 1)) {
+                if(a != b) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int contentHash() {
+            int h = 0;
+            for(int a = cardinality() > 0 ? first() : -1; a >= 0; a = nextValue(a + 1)) {
+                h = 31 * h + a;
+            }
+            return h;
+        }
+
+        static Container and(Container a, Container b) {
+            a = a.toNonRun();
+            b = b.toNonRun();
+            if(a instanceof ArrayContainer) {
+                return b instanceof ArrayContainer
+                        ? ArrayContainer.and((ArrayContainer) a, (ArrayContainer) b)
+                        : ((ArrayContainer) a).filter((BitmapContainer) b, true);
+            }
+            return b instanceof ArrayContainer
+                    ? ((ArrayContainer) b).filter((BitmapContainer) a, true)
+                    : BitmapContainer.and((BitmapContainer) a, (BitmapContainer) b);
+        }
+
+        static Container or(Container a, Container b) {
+            a = a.toNonRun();
+            b = b.toNonRun();
+            if(a instanceof ArrayContainer && b instanceof ArrayContainer) {
+                return ArrayContainer.or((ArrayContainer) a, (ArrayContainer) b);
+            }
+            if(a instanceof ArrayContainer) {
+                Container t = a;
+                a = b;
+                b = t;
+            }
+            BitmapContainer r = (BitmapContainer) a.copy();
+            if(b instanceof ArrayContainer) {
+                ArrayContainer ac = (ArrayContainer) b;
+                for(int k = 0; k < ac.cardinality; k++) {
+                    r.set(ac.content[k]);
+                }
+                return r;
+            }
+            return r.orWords((BitmapContainer) b);
+        }
+
+        static Container xor(Container a, Container b) {
+            a = a.toNonRun();
+            b = b.toNonRun();
+            if(a instanceof ArrayContainer && b instanceof ArrayContainer) {
+                return ArrayContainer.xor((ArrayContainer) a, (ArrayContainer) b);
+            }
+            if(a instanceof ArrayContainer) {
+                Container t = a;
+                a = b;
+                b = t;
+            }
+            BitmapContainer r = (BitmapContainer) a.copy();
+            if(b instanceof ArrayContainer) {
+                ArrayContainer ac = (ArrayContainer) b;
+                for(int k = 0; k < ac.cardinality; k++) {
+                    r.flip(ac.content[k]);
+                }
+                return r.normalize();
+            }
+            return r.xorWords((BitmapContainer) b);
+        }
+
+        static Container andNot(Container a, Container b) {
+            a = a.toNonRun();
+            b = b.toNonRun();
+            if(a instanceof ArrayContainer) {
+                return b instanceof ArrayContainer
+                        ? ArrayContainer.andNot((ArrayContainer) a, (ArrayContainer) b)
+                        : ((ArrayContainer) a).filter((BitmapContainer) b, false);
+            }
+            BitmapContainer r = (BitmapContainer) a.copy();
+            if(b instanceof ArrayContainer) {
+                ArrayContainer ac = (ArrayContainer) b;
+                for(int k = 0; k < ac.cardinality; k++) {
+                    r.clear(ac.content[k]);
+                }
+                return r.normalize();
+            }
+            return r.andNotWords((BitmapContainer) b);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：数组容器，有序的char[]，最多ARRAY_MAX_SIZE个元素
+     * @Date：16:00 2026/10/19
+     */
+    static final class ArrayContainer extends Container {
+
+        char[] content;
+
+        int cardinality;
+
+        ArrayContainer(int capacity) {
+            content = new char[capacity];
+        }
+
+        ArrayContainer(char[] content, int cardinality) {
+            this.content = content;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int x) {
+            return Arrays.binarySearch(content, 0, cardinality, (char) x) >= 0;
+        }
+
+        @Override
+        Container add(int x) {
+            int i = Arrays.binarySearch(content, 0, cardinality, (char) x);
+            if(i >= 0) {
+                return this;
+            }
+            if(cardinality == ARRAY_MAX_SIZE) {
+                return toBitmap().add(x);
+            }
+            i = -i - 1;
+            if(cardinality == content.length) {
+                content = Arrays.copyOf(content, Math.min(ARRAY_MAX_SIZE, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(content, i, content, i + 1, cardinality - i);
+            content[i] = (char) x;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(int x) {
+            int i = Arrays.binarySearch(content, 0, cardinality, (char) x);
+            if(i >= 0) {
+                System.arraycopy(content, i + 1, content, i, cardinality - i - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        int rank(int x) {
+            int i = Arrays.binarySearch(content, 0, cardinality, (char) x);
+            return i >= 0 ? i + 1 : -i - 1;
+        }
+
+        @Override
+        int select(int j) {
+            return content[j];
+        }
+
+        @Override
+        int nextValue(int from) {
+            if(from > 0xFFFF) {
+                return -1;
+            }
+            int i = Arrays.binarySearch(content, 0, cardinality, (char) from);
+            if(i >= 0) {
+                return from;
+            }
+            i = -i - 1;
+            return i < cardinality ? content[i] : -1;
+        }
+
+        @Override
+        int first() {
+            return content[0];
+        }
+
+        @Override
+        int last() {
+            return content[cardinality - 1];
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for(int k = 0; k < cardinality; k++) {
+                action.accept(high | content[k]);
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(content, Math.max(cardinality, 1)), cardinality);
+        }
+
+        @Override
+        int serializedSize() {
+            return 2 * cardinality;
+        }
+
+        @Override
+        void writeTo(ByteBuffer out) {
+            for(int k = 0; k < cardinality; k++) {
+                out.putChar(content[k]);
+            }
+        }
+
+        static ArrayContainer readFrom(ByteBuffer in, int cardinality) {
+            char[] c = new char[cardinality];
+            for(int k = 0; k < cardinality; k++) {
+                c[k] = in.getChar();
+                if(k > 0 && c[k] <= c[k - 1]) {
+                    throw new IllegalArgumentException("Array container not sorted");
+                }
+            }
+            return new ArrayContainer(c, cardinality);
+        }
+
+        @Override
+        Container toNonRun() {
+            return this;
+        }
+
+        @Override
+        int numberOfRuns() {
+            int runs = 0;
+            for(int k = 0; k < cardinality; k++) {
+                if(k == 0 || content[k] != content[k - 1] + 1) {
+                    runs++;
+                }
+            }
+            return runs;
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer b = new BitmapContainer();
+            for(int k = 0; k < cardinality; k++) {
+                b.set(content[k]);
+            }
+            return b;
+        }
+
+        /**
+         * keep为true时保留在b中的元素，否则保留不在b中的元素
+         */
+        ArrayContainer filter(BitmapContainer b, boolean keep) {
+            char[] r = new char[Math.max(cardinality, 1)];
+            int n = 0;
+            for(int k = 0; k < cardinality; k++) {
+                if(b.contains(content[k]) == keep) {
+                    r[n++] = content[k];
+                }
+            }
+            return new ArrayContainer(r, n);
+        }
+
+        static ArrayContainer and(ArrayContainer a, ArrayContainer b) {
+            char[] r = new char[Math.max(1, Math.min(a.cardinality, b.cardinality))];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while(i < a.cardinality && j < b.cardinality) {
+                char x = a.content[i];
+                char y = b.content[j];
+                if(x < y) {
+                    i++;
+                } else if(x > y) {
+                    j++;
+                } else {
+                    r[n++] = x;
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(r, n);
+        }
+
+        static Container or(ArrayContainer a, ArrayContainer b) {
+            if(a.cardinality + b.cardinality > ARRAY_MAX_SIZE) {
+                BitmapContainer r = a.toBitmap();
+                for(int k = 0; k < b.cardinality; k++) {
+                    r.set(b.content[k]);
+                }
+                return r.normalize();
+            }
+            char[] r = new char[Math.max(1, a.cardinality + b.cardinality)];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while(i < a.cardinality || j < b.cardinality) {
+                if(j == b.cardinality || (i < a.cardinality && a.content[i] < b.content[j])) {
+                    r[n++] = a.content[i++];
+                } else if(i == a.cardinality || a.content[i] > b.content[j]) {
+                    r[n++] = b.content[j++];
+                } else {
+                    r[n++] = a.content[i++];
+                    j++;
+                }
+            }
+            return new ArrayContainer(r, n);
+        }
+
+        static Container xor(ArrayContainer a, ArrayContainer b) {
+            if(a.cardinality + b.cardinality > ARRAY_MAX_SIZE) {
+                BitmapContainer r = a.toBitmap();
+                for(int k = 0; k < b.cardinality; k++) {
+                    r.flip(b.content[k]);
+                }
+                return r.normalize();
+            }
+            char[] r = new char[Math.max(1, a.cardinality + b.cardinality)];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while(i < a.cardinality || j < b.cardinality) {
+                if(j == b.cardinality || (i < a.cardinality && a.content[i] < b.content[j])) {
+                    r[n++] = a.content[i++];
+                } else if(i == a.cardinality || a.content[i] > b.content[j]) {
+                    r[n++] = b.content[j++];
+                } else {
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(r, n);
+        }
+
+        static ArrayContainer andNot(ArrayContainer a, ArrayContainer b) {
+            char[] r = new char[Math.max(1, a.cardinality)];
+            int n = 0;
+            int j = 0;
+            for(int i = 0; i < a.cardinality; i++) {
+                char x = a.content[i];
+                while(j < b.cardinality && b.content[j] < x) {
+                    j++;
+                }
+                if(j == b.cardinality || b.content[j] != x) {
+                    r[n++] = x;
+                }
+            }
+            return new ArrayContainer(r, n);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：位图容器，1024个long共65536位，元素多于ARRAY_MAX_SIZE个时使用
+     * @Date：16:05 2026/10/19
+     */
+    static final class BitmapContainer extends Container {
+
+        final long[] words;
+
+        int cardinality;
+
+        BitmapContainer() {
+            words = new long[1024];
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int x) {
+            return (words[x >>> 6] & (1L << x)) != 0;
+        }
+
+        void set(int x) {
+            long w = words[x >>> 6];
+            long nw = w | (1L << x);
+            words[x >>> 6] = nw;
+            cardinality += (int) ((w ^ nw) >>> x);
+        }
+
+        void clear(int x) {
+            long w = words[x >>> 6];
+            long nw = w & ~(1L << x);
+            words[x >>> 6] = nw;
+            cardinality -= (int) ((w ^ nw) >>> x);
+        }
+
+        void flip(int x) {
+            long w = words[x >>> 6] ^ (1L << x);
+            words[x >>> 6] = w;
+            cardinality += (w & (1L << x)) != 0 ? 1 : -1;
+        }
+
+        void recount() {
+            int c = 0;
+            for(long w : words) {
+                c += Long.bitCount(w);
+            }
+            cardinality = c;
+        }
+
+        @Override
+        Container add(int x) {
+            set(x);
+            return this;
+        }
+
+        @Override
+        Container remove(int x) {
+            clear(x);
+            return normalize();
+        }
+
+        /**
+         * 基数不超过ARRAY_MAX_SIZE时换成数组容器
+         */
+        Container normalize() {
+            if(cardinality > ARRAY_MAX_SIZE) {
+                return this;
+            }
+            char[] c = new char[Math.max(1, cardinality)];
+            int n = 0;
+            for(int w = 0; w < words.length; w++) {
+                long word = words[w];
+                while(word != 0) {
+                    c[n++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(c, n);
+        }
+
+        @Override
+        int rank(int x) {
+            int r = 0;
+            int last = x >>> 6;
+            for(int w = 0; w < last; w++) {
+                r += Long.bitCount(words[w]);
+            }
+            return r + Long.bitCount(words[last] & (-1L >>> (63 - (x & 63))));
+        }
+
+        @Override
+        int select(int j) {
+            int left = j;
+            for(int w = 0; w < words.length; w++) {
+                long word = words[w];
+                int c = Long.bitCount(word);
+                if(left < c) {
+                    for(int k = 0; k < left; k++) {
+                        word &= word - 1;
+                    }
+                    return (w << 6) + Long.numberOfTrailingZeros(word);
+                }
+                left -= c;
+            }
+            throw new IllegalArgumentException("select " + j);
+        }
+
+        @Override
+        int nextValue(int from) {
+            if(from > 0xFFFF) {
+                return -1;
+            }
+            int w = from >>> 6;
+            long word = words[w] & (-1L << from);
+            while(word == 0) {
+                if(++w == words.length) {
+                    return -1;
+                }
+                word = words[w];
+            }
+            return (w << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        int first() {
+            return nextValue(0);
+        }
+
+        @Override
+        int last() {
+            for(int w = words.length - 1; w >= 0; w--) {
+                if(words[w] != 0) {
+                    return (w << 6) + 63 - Long.numberOfLeadingZeros(words[w]);
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for(int w = 0; w < words.length; w++) {
+                long word = words[w];
+                while(word != 0) {
+                    action.accept(high | ((w << 6) + Long.numberOfTrailingZeros(word)));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        int serializedSize() {
+            return 8192;
+        }
+
+        @Override
+        void writeTo(ByteBuffer out) {
+            for(long w : words) {
+                out.putLong(w);
+            }
+        }
+
+        static BitmapContainer readFrom(ByteBuffer in) {
+            BitmapContainer b = new BitmapContainer();
+            for(int w = 0; w < 1024; w++) {
+                b.words[w] = in.getLong();
+            }
+            b.recount();
+            return b;
+        }
+
+        @Override
+        Container toNonRun() {
+            return this;
+        }
+
+        @Override
+        int numberOfRuns() {
+            // 每个run在它的最后一位之后都有一个0(或在末尾)，统计1后面紧跟0的位置
+            int runs = 0;
+            for(int w = 0; w < words.length; w++) {
+                long word = words[w];
+                long next = w + 1 < words.length ? words[w + 1] : 0;
+                runs += Long.bitCount(word & ~((word >>> 1) | (next << 63)));
+            }
+            return runs;
+        }
+
+        static Container and(BitmapContainer a, BitmapContainer b) {
+            long[] r = new long[1024];
+            int c = 0;
+            for(int w = 0; w < 1024; w++) {
+                r[w] = a.words[w] & b.words[w];
+                c += Long.bitCount(r[w]);
+            }
+            return new BitmapContainer(r, c).normalize();
+        }
+
+        Container orWords(BitmapContainer b) {
+            int c = 0;
+            for(int w = 0; w < 1024; w++) {
+                words[w] |= b.words[w];
+                c += Long.bitCount(words[w]);
+            }
+            cardinality = c;
+            return this;
+        }
+
+        Container xorWords(BitmapContainer b) {
+            int c = 0;
+            for(int w = 0; w < 1024; w++) {
+                words[w] ^= b.words[w];
+                c += Long.bitCount(words[w]);
+            }
+            cardinality = c;
+            return normalize();
+        }
+
+        Container andNotWords(BitmapContainer b) {
+            int c = 0;
+            for(int w = 0; w < 1024; w++) {
+                words[w] &= ~b.words[w];
+                c += Long.bitCount(words[w]);
+            }
+            cardinality = c;
+            return normalize();
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：行程容器，runs中依次存放(起点, 长度 - 1)，各段有序且不相邻。
+     *              只读操作直接在行程上完成，修改时先换成数组容器或位图容器
+     * @Date：16:10 2026/10/19
+     */
+    static final class RunContainer extends Container {
+
+        final char[] runs;
+
+        final int nbrruns;
+
+        final int cardinality;
+
+        RunContainer(char[] runs, int nbrruns) {
+            this.runs = runs;
+            this.nbrruns = nbrruns;
+            int c = 0;
+            for(int k = 0; k < nbrruns; k++) {
+                c += runs[2 * k + 1] + 1;
+            }
+            this.cardinality = c;
+        }
+
+        static RunContainer range(int lo, int hi) {
+            return new RunContainer(new char[] {(char) lo, (char) (hi - lo)}, 1);
+        }
+
+        static RunContainer from(Container c, int runs) {
+            char[] r = new char[2 * runs];
+            int n = 0;
+            int start = c.first();
+            int prev = start;
+            for(int v = c.nextValue(start + 1); ; v = c.nextValue(v + 1)) {
+                if(v != prev + 1) {
+                    r[2 * n] = (char) start;
+                    r[2 * n + 1] = (char) (prev - start);
+                    n++;
+                    if(v < 0) {
+                        break;
+                    }
+                    start = v;
+                }
+                prev = v;
+            }
+            return new RunContainer(r, n);
+        }
+
+        int start(int k) {
+            return runs[2 * k];
+        }
+
+        int end(int k) {
+            return runs[2 * k] + runs[2 * k + 1];
+        }
+
+        /**
+         * 起点不大于x的最后一段，没有时返回-1
+         */
+        int floorRun(int x) {
+            int low = 0;
+            int high = nbrruns - 1;
+            while(low <= high) {
+                int mid = (low + high) >>> 1;
+                if(start(mid) <= x) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int x) {
+            int k = floorRun(x);
+            return k >= 0 && x <= end(k);
+        }
+
+        @Override
+        Container add(int x) {
+            return contains(x) ? this : toNonRun().add(x);
+        }
+
+        @Override
+        Container remove(int x) {
+            return contains(x) ? toNonRun().remove(x) : this;
+        }
+
+        @Override
+        int rank(int x) {
+            int r = 0;
+            for(int k = 0; k < nbrruns; k++) {
+                int s = start(k);
+                if(x < s) {
+                    break;
+                }
+                r += Math.min(x, end(k)) - s + 1;
+            }
+            return r;
+        }
+
+        @Override
+        int select(int j) {
+            int left = j;
+            for(int k = 0; k < nbrruns; k++) {
+                int len = runs[2 * k + 1] + 1;
+                if(left < len) {
+                    return start(k) + left;
+                }
+                left -= len;
+            }
+            throw new IllegalArgumentException("select " + j);
+        }
+
+        @Override
+        int nextValue(int from) {
+            if(from > 0xFFFF) {
+                return -1;
+            }
+            int k = floorRun(from);
+            if(k >= 0 && from <= end(k)) {
+                return from;
+            }
+            return k + 1 < nbrruns ? start(k + 1) : -1;
+        }
+
+        @Override
+        int first() {
+            return start(0);
+        }
+
+        @Override
+        int last() {
+            return end(nbrruns - 1);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for(int k = 0; k < nbrruns; k++) {
+                for(int v = start(k), e = end(k); v <= e; v++) {
+                    action.accept(high | v);
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            return this;
+        }
+
+        @Override
+        int serializedSize() {
+            return 2 + 4 * nbrruns;
+        }
+
+        @Override
+        void writeTo(ByteBuffer out) {
+            out.putChar((char) nbrruns);
+            for(int k = 0; k < 2 * nbrruns; k++) {
+                out.putChar(runs[k]);
+            }
+        }
+
+        static RunContainer readFrom(ByteBuffer in) {
+            int n = in.getChar();
+            char[] r = new char[2 * n];
+            for(int k = 0; k < 2 * n; k++) {
+                r[k] = in.getChar();
+            }
+            for(int k = 0; k < n; k++) {
+                if(r[2 * k] + r[2 * k + 1] > 0xFFFF
+                        || (k > 0 && r[2 * k] <= r[2 * k - 2] + r[2 * k - 1])) {
+                    throw new IllegalArgumentException("Bad run container");
+                }
+            }
+            return new RunContainer(r, n);
+        }
+
+        @Override
+        Container toNonRun() {
+            if(cardinality <= ARRAY_MAX_SIZE) {
+                char[] c = new char[Math.max(1, cardinality)];
+                int n = 0;
+                for(int k = 0; k < nbrruns; k++) {
+                    for(int v = start(k), e = end(k); v <= e; v++) {
+                        c[n++] = (char) v;
+                    }
+                }
+                return new ArrayContainer(c, n);
+            }
+            BitmapContainer b = new BitmapContainer();
+            for(int k = 0; k < nbrruns; k++) {
+                int lo = start(k);
+                int hi = end(k);
+                int first = lo >>> 6;
+                int last = hi >>> 6;
+                long firstMask = -1L << lo;
+                long lastMask = -1L >>> (63 - (hi & 63));
+                if(first == last) {
+                    b.words[first] |= firstMask & lastMask;
+                } else {
+                    b.words[first] |= firstMask;
+                    for(int w = first + 1; w < last; w++) {
+                        b.words[w] = -1L;
+                    }
+                    b.words[last] |= lastMask;
+                }
+            }
+            b.cardinality = cardinality;
+            return b;
+        }
+
+        @Override
+        int numberOfRuns() {
+            return nbrruns;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package java.util.primitive;
+
+/**
+ * @Author：zhuangfei
+ * @Description：固定除数的无符号除法，结果与Integer.divideUnsigned、Integer.remainderUnsigned完全相同。
+ *              构造时按Granlund-Montgomery的方法预先算好乘数和移位数，之后每次相除只需要一次乘法和两次移位，
+ *              没有除法指令，也没有分支。同一个除数要除很多次时(例如按分区数取模)才划算。
+ *              设l = ceil(log2(d))，m = floor(2^(32 + l) / d) + 1，则对所有 0 <= n < 2^32 有
+ *              n / d = (n * m) >>> (32 + l)。m最多33位，乘积会超过long，所以只存m - 2^32，
+ *              先算t = (n * (m - 2^32)) >>> 32，商就是(n + t) >>> l。
+ *              对象不可变，可以在多个线程中共用
+ * @Date：17:30 2026/10/19
+ */
+public final class UnsignedIntDivisor {
+
+    private final int divisor;
+
+    /**
+     * 乘数减去2^32，0 ~ 2^32 - 1
+     */
+    private final long magic;
+
+    private final int shift;
+
+    /**
+     * @Author：zhuangfei
+     * @Description：为除数divisor预先计算乘数，divisor按无符号数处理
+     * divisor ：除数
+     * PS ：divisor为0时会抛出 ArithmeticException(算术异常)
+     * @Date：17:32 2026/10/19
+     */
+    public UnsignedIntDivisor(int divisor) {
+        if(divisor == 0) {
+            throw new ArithmeticException("/ by zero");
+        }
+        long d = Integer.toUnsignedLong(divisor);
+        // l = ceil(log2(d))，d为1时是0，大于2^31时是32
+        int l = 32 - Integer.numberOfLeadingZeros(divisor - 1);
+        this.divisor = divisor;
+        this.shift = l;
+        // floor(2^32 * (2^l - d) / d) + 1 即 m - 2^32，2^l - d < 2^31，左移32位不会溢出
+        this.magic = (((1L << l) - d) << 32) / d + 1;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回除数
+     * @Date：17:34 2026/10/19
+     */
+    public int getDivisor() {
+        return divisor;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回无符号的dividend / 除数，与Integer.divideUnsigned(dividend, 除数)相同
+     * dividend ：被除数
+     * @Date：17:35 2026/10/19
+     */
+    public int divide(int dividend) {
+        long n = dividend & 0xFFFFFFFFL;
+        // 两个数都小于2^32，乘积按无符号数看不会溢出，>>>取到的高32位是对的
+        long t = (n * magic) >>> 32;
+        return (int) ((n + t) >>> shift);
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：返回无符号的dividend % 除数，与Integer.remainderUnsigned(dividend, 除数)相同
+     * dividend ：被除数
+     * @Date：17:36 2026/10/19
+     */
+    public int remainder(int dividend) {
+        return dividend - divide(dividend) * divisor;
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[srcOff, srcOff + len)中的每个数除以除数，商写到dst[dstOff, dstOff + len)。
+     *              src和dst可以是同一个数组，但只能原地相除(srcOff == dstOff)，两个范围错开且重叠时结果不正确
+     * PS ：范围越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：17:37 2026/10/19
+     */
+    public void divide(int[] src, int srcOff, int[] dst, int dstOff, int len) {
+        checkRange(src, srcOff, dst, dstOff, len);
+        long m = magic;
+        int s = shift;
+        for(int i = 0; i < len; i++) {
+            long n = src[srcOff + i] & 0xFFFFFFFFL;
+            dst[dstOff + i] = (int) ((n + ((n * m) >>> 32)) >>> s);
+        }
+    }
+
+    /**
+     * @Author：zhuangfei
+     * @Description：把src[srcOff, srcOff + len)中的每个数对除数取余，余数写到dst[dstOff, dstOff + len)，对src和dst的要求与divide相同
+     * PS ：范围越界时会抛出 IndexOutOfBoundsException(下标越界异常)
+     * @Date：17:38 2026/10/19
+     */
+    public void remainder(int[] src, int srcOff, int[] dst, int dstOff, int len) {
+        checkRange(src, srcOff, dst, dstOff, len);
+        long m = magic;
+        int s = shift;
+        int d = divisor;
+        for(int i = 0; i < len; i++) {
+            int x = src[srcOff + i];
+            long n = x & 0xFFFFFFFFL;
+            dst[dstOff + i] = x - (int) ((n + ((n * m) >>> 32)) >>> s) * d;
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof UnsignedIntDivisor && ((UnsignedIntDivisor) obj).divisor == divisor;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(divisor);
+    }
+
+    @Override
+    public String toString() {
+        return "UnsignedIntDivisor[" + Integer.toUnsignedString(divisor) + "]";
+    }
+
+    static void checkRange(int[] src, int srcOff, int[] dst, int dstOff, int len) {
+        if(len < 0 || srcOff < 0 || srcOff > src.length - len || dstOff < 0 || dstOff > dst.length - len) {
+            throw new IndexOutOfBoundsException("srcOff " + srcOff + ", dstOff " + dstOff + ", len " + len);
+        }
+    }
+}